@@ -0,0 +1,92 @@
+package uiowa.ais.interview.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import uiowa.ais.interview.entity.Task;
+import uiowa.ais.interview.entity.TaskPriority;
+import uiowa.ais.interview.entity.TaskStatus;
+import uiowa.ais.interview.entity.User;
+import uiowa.ais.interview.task.TaskDTO.TaskResponseDTO;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmarks of the response path that runs for every listed task:
+ * entity to DTO mapping and JSON serialization of a page of DTOs.
+ *
+ * Pages are serialized as PagedModel, which is what the controllers emit with
+ * PageSerializationMode.VIA_DTO.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MappingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int pageSize;
+
+    private List<Task> tasks;
+    private Page<TaskResponseDTO> page;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        User user = new User("Alice Johnson", "alice.johnson@example.com");
+        user.setId(1L);
+        user.setCreatedAt(LocalDateTime.now());
+
+        tasks = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            Task task = new Task("Task " + id, "Description of task " + id,
+                    TaskStatus.TODO, TaskPriority.MEDIUM, LocalDate.now(), user);
+            task.setId(id);
+            task.setCreatedAt(LocalDateTime.now());
+            task.setUpdatedAt(LocalDateTime.now());
+            tasks.add(task);
+        }
+
+        page = new PageImpl<>(mapPage(), PageRequest.of(0, pageSize), 1_000_000);
+        // Same modules and date handling as the Spring Boot auto-configured mapper
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    @Benchmark
+    public List<TaskResponseDTO> mapPage() {
+        List<TaskResponseDTO> dtos = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            dtos.add(TaskResponseDTO.fromEntity(task));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(new PagedModel<>(page));
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializePage() throws Exception {
+        Page<TaskResponseDTO> mapped = new PageImpl<>(mapPage(), PageRequest.of(0, pageSize), 1_000_000);
+        return objectMapper.writeValueAsBytes(new PagedModel<>(mapped));
+    }
+}
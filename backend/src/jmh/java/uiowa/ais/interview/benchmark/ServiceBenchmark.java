@@ -0,0 +1,231 @@
+package uiowa.ais.interview.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import uiowa.ais.interview.Application;
+import uiowa.ais.interview.counter.EntityCounters;
+import uiowa.ais.interview.entity.TaskPriority;
+import uiowa.ais.interview.entity.TaskStatus;
+import uiowa.ais.interview.task.TaskDTO.BulkStatusDTO;
+import uiowa.ais.interview.task.TaskDTO.CreateTaskDTO;
+import uiowa.ais.interview.task.TaskDTO.TaskResponseDTO;
+import uiowa.ais.interview.task.TaskService;
+import uiowa.ais.interview.user.UserDTO.CreateUserDTO;
+import uiowa.ais.interview.user.UserDTO.UserResponseDTO;
+import uiowa.ais.interview.user.UserService;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * End-to-end service benchmarks (service, repository, Hibernate, H2) at several data sizes.
+ *
+ * Each trial boots the application without the web tier against its own in-memory H2
+ * database, seeded with taskCount tasks spread over taskCount / 100 users.
+ * Ids come from the pooled sequences (see V4), so they are not dense; the seeded ids are
+ * read back once and lookups sample from them, so every call hits an existing row.
+ * Detail lookups use random ids, so they include the id caches as deployed.
+ * The status update benchmarks compare per-row updates with one bulk UPDATE over the
+ * same number of tasks, reported per task.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ServiceBenchmark {
+
+    // Tasks changed per bulk benchmark invocation
+    private static final int BULK_SIZE = 100;
+
+    @Param({"10000", "100000", "1000000"})
+    public int taskCount;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private UserService userService;
+    private long[] taskIds;
+    private long[] userIds;
+    private final AtomicLong bulkRuns = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .run();
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        int userCount = Math.max(4, taskCount / 100);
+        jdbcTemplate.update("""
+                INSERT INTO users (name, email, created_at, updated_at)
+                SELECT 'Bench User ' || X, 'bench' || X || '@example.com', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)
+                """, userCount);
+        userIds = ids(jdbcTemplate, "SELECT id FROM users ORDER BY id");
+        // Round robin over the existing users, numbered 0..n-1 in id order
+        jdbcTemplate.update("""
+                INSERT INTO tasks (title, description, status, priority, due_date, user_id, created_at, updated_at)
+                SELECT 'Bench task ' || X, 'Generated by ServiceBenchmark',
+                       CASEWHEN(MOD(X, 3) = 0, 'TODO', CASEWHEN(MOD(X, 3) = 1, 'IN_PROGRESS', 'DONE')),
+                       'MEDIUM', CURRENT_DATE, u.id, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)
+                JOIN (SELECT id, ROW_NUMBER() OVER (ORDER BY id) - 1 AS n FROM users) u ON u.n = MOD(X, ?)
+                """, taskCount, userIds.length);
+        taskIds = ids(jdbcTemplate, "SELECT id FROM tasks ORDER BY id");
+        if (taskIds.length < taskCount || userIds.length < userCount) {
+            throw new IllegalStateException("Seeding failed: " + taskIds.length + " tasks, "
+                    + userIds.length + " users");
+        }
+
+        // The status update benchmarks must change BULK_SIZE existing rows per call
+        List<Long> sample = randomTaskIds();
+        Long found = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE id IN ("
+                + String.join(",", sample.stream().map(String::valueOf).toList()) + ")", Long.class);
+        if (found == null || found != BULK_SIZE) {
+            throw new IllegalStateException("Sampled " + BULK_SIZE + " task ids but " + found + " exist");
+        }
+
+        context.getBean(EntityCounters.class).reconcile();
+        taskService = context.getBean(TaskService.class);
+        userService = context.getBean(UserService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // Tasks
+
+    @Benchmark
+    public Page<TaskResponseDTO> listTasks() {
+        return taskService.getAllTasks(null, randomPage(), 20);
+    }
+
+    @Benchmark
+    public Page<TaskResponseDTO> listTasksByStatus() {
+        return taskService.getAllTasks(TaskStatus.TODO.name(), randomPage(), 20);
+    }
+
+    @Benchmark
+    public TaskResponseDTO getTask() {
+        return taskService.getTaskById(randomId(taskIds));
+    }
+
+    @Benchmark
+    public TaskResponseDTO createTask() {
+        return taskService.createTask(newTask());
+    }
+
+    @Benchmark
+    public TaskResponseDTO updateTask() {
+        return taskService.updateTask(randomId(taskIds), newTask(), null);
+    }
+
+    /**
+     * Move BULK_SIZE tasks to a new status one at a time through the PUT path
+     * (a state read and a guarded UPDATE per task). Baseline for bulkStatusUpdate.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BULK_SIZE)
+    public int perRowStatusUpdate() {
+        TaskStatus status = nextStatus();
+        int updated = 0;
+        for (long id : randomTaskIds()) {
+            CreateTaskDTO dto = newTask();
+            dto.setStatus(status);
+            taskService.updateTask(id, dto, null);
+            updated++;
+        }
+        return updated;
+    }
+
+    /**
+     * Move BULK_SIZE tasks to a new status with POST /api/tasks/bulk/status's
+     * set-based UPDATE. Reported per task, like perRowStatusUpdate.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BULK_SIZE)
+    public int bulkStatusUpdate() {
+        return taskService.updateStatusInBulk(new BulkStatusDTO(randomTaskIds(), null, nextStatus()));
+    }
+
+    // Users
+
+    @Benchmark
+    public Page<UserResponseDTO> listUsers() {
+        return userService.getAllUsers(null, 0, 20);
+    }
+
+    @Benchmark
+    public UserResponseDTO getUser() {
+        return userService.getUserById(randomId(userIds));
+    }
+
+    @Benchmark
+    public UserResponseDTO createUser() {
+        return userService.createUser(new CreateUserDTO("Bench User", UUID.randomUUID() + "@example.com"));
+    }
+
+    @Benchmark
+    public UserResponseDTO updateUser() {
+        return userService.updateUser(randomId(userIds),
+                new CreateUserDTO("Renamed User", UUID.randomUUID() + "@example.com"), null);
+    }
+
+    private CreateTaskDTO newTask() {
+        return new CreateTaskDTO("Benchmark task", "Written by ServiceBenchmark",
+                TaskStatus.IN_PROGRESS, TaskPriority.HIGH, LocalDate.now(), randomId(userIds));
+    }
+
+    private TaskStatus nextStatus() {
+        // Alternate so every run changes the rows it touches
+        TaskStatus[] statuses = TaskStatus.values();
+        return statuses[(int) (bulkRuns.getAndIncrement() % statuses.length)];
+    }
+
+    /**
+     * BULK_SIZE distinct seeded task ids, scattered over the table like a user's selection.
+     */
+    private List<Long> randomTaskIds() {
+        return ThreadLocalRandom.current().ints(0, taskIds.length)
+                .distinct()
+                .limit(BULK_SIZE)
+                .mapToLong(index -> taskIds[index])
+                .boxed()
+                .toList();
+    }
+
+    private int randomPage() {
+        // Spread reads over the first 1000 pages (or all of them for small tables)
+        return ThreadLocalRandom.current().nextInt(Math.min(1000, taskCount / 20));
+    }
+
+    private static long randomId(long[] ids) {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+
+    private static long[] ids(JdbcTemplate jdbcTemplate, String sql) {
+        return jdbcTemplate.queryForList(sql, Long.class).stream().mapToLong(Long::longValue).toArray();
+    }
+}
@@ -0,0 +1,43 @@
+package uiowa.ais.interview.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * In-process cache configuration for single-resource lookups.
+ *
+ * Caches hold TaskResponseDTO/UserResponseDTO by id, are bounded by size and TTL,
+ * and record statistics that actuator publishes as cache.gets/cache.evictions metrics.
+ *
+ * The caching advice runs outside the transactional advice (highest precedence),
+ * so cache hits never open a transaction and @CacheEvict runs only after the
+ * write transaction has committed.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    public static final String TASKS = "tasks";
+    public static final String USERS = "users";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${app.cache.maximum-size:10000}") long maximumSize,
+                                     @Value("${app.cache.ttl:PT10M}") Duration ttl) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(TASKS, USERS);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats());
+        // Lookups of missing ids throw instead of returning null, so nulls are never cached
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+}
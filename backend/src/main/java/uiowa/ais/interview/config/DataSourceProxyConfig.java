@@ -0,0 +1,43 @@
+package uiowa.ais.interview.config;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import uiowa.ais.interview.monitoring.SqlStatementTracker;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Wraps the application DataSource in a datasource-proxy so every JDBC statement
+ * can be observed (see SqlStatementTracker). Statements slower than
+ * app.sql.slow-query-threshold are logged.
+ *
+ * The proxy delegates unwrap(), so pool metrics and other consumers that look for
+ * the underlying HikariDataSource still find it.
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(Environment environment) {
+        Duration slowQueryThreshold = environment.getProperty(
+                "app.sql.slow-query-threshold", Duration.class, Duration.ofMillis(200));
+        SqlStatementTracker tracker = new SqlStatementTracker(slowQueryThreshold);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(tracker)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
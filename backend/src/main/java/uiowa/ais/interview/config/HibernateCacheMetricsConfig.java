@@ -0,0 +1,52 @@
+package uiowa.ais.interview.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Publishes a hit ratio gauge for each Hibernate second-level cache region.
+ *
+ * Raw hit/miss/put counters per region come from hibernate-micrometer
+ * (hibernate.second.level.cache.requests); this adds the ratio the dashboards plot.
+ */
+@Configuration
+public class HibernateCacheMetricsConfig {
+
+    /**
+     * Regions declared on the entities plus Hibernate's default query results region.
+     */
+    private static final List<String> REGIONS = List.of("users", "tasks", "default-query-results-region");
+
+    @Bean
+    public MeterBinder hibernateCacheHitRatio(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> REGIONS.forEach(region ->
+                Gauge.builder("hibernate.cache.region.hit.ratio", statistics, stats -> hitRatio(stats, region))
+                        .description("Hit ratio of a Hibernate second-level cache region")
+                        .tag("region", region)
+                        .register(registry));
+    }
+
+    private static double hitRatio(Statistics statistics, String region) {
+        CacheRegionStatistics regionStatistics;
+        try {
+            regionStatistics = statistics.getCacheRegionStatistics(region);
+        } catch (IllegalArgumentException ex) {
+            // Region not created yet (e.g. query cache before the first cached query)
+            return Double.NaN;
+        }
+        if (regionStatistics == null) {
+            return Double.NaN;
+        }
+        long requests = regionStatistics.getHitCount() + regionStatistics.getMissCount();
+        return requests == 0 ? 0.0 : (double) regionStatistics.getHitCount() / requests;
+    }
+}
@@ -0,0 +1,99 @@
+package uiowa.ais.interview.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import uiowa.ais.interview.routing.ReadYourWritesFilter;
+import uiowa.ais.interview.routing.ReplicaCacheModeListener;
+import uiowa.ais.interview.routing.ReplicaRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read/write splitting, enabled by listing replica URLs in app.replicas.urls.
+ *
+ * Replaces Spring Boot's single pooled DataSource with a ReplicaRoutingDataSource over
+ * one HikariCP pool per database. Every pool takes the spring.datasource.hikari settings;
+ * replicas use the primary's username and password and are named
+ * "<pool-name>-replica-N" in the hikaricp.connections.* metrics. The pools are not beans
+ * of their own, so DataSourceProxyConfig wraps (and counts statements on) only the
+ * routing DataSource.
+ *
+ * Shared caches are only filled from the primary: Hibernate's caches through
+ * ReplicaCacheModeListener, the task and user caches and the search index by reading
+ * on the primary (ReadYourWrites.onPrimary), and list validators are not issued for
+ * replica reads (CollectionVersions).
+ */
+@Configuration
+@ConditionalOnExpression("!'${app.replicas.urls:}'.isBlank()")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties,
+                                 Environment environment,
+                                 ObjectProvider<MeterRegistry> meterRegistry,
+                                 @Value("${app.replicas.urls}") List<String> replicaUrls) {
+        HikariDataSource primary = pool(properties, environment, meterRegistry, properties.determineUrl(), null);
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            replicas.add(pool(properties, environment, meterRegistry, replicaUrls.get(i).trim(), "-replica-" + (i + 1)));
+        }
+        return new ReplicaRoutingDataSource(primary, replicas);
+    }
+
+    /**
+     * Pins a client's reads to the primary for a while after it writes.
+     * Runs before the other filters so they see the same routing as the controllers.
+     */
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${app.replicas.read-your-writes-window:5s}") Duration window) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(window));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    /**
+     * Stops replica reads from filling Hibernate's second-level and query caches.
+     */
+    @Bean
+    public ReplicaCacheModeListener replicaCacheModeListener(EntityManagerFactory entityManagerFactory) {
+        return new ReplicaCacheModeListener(entityManagerFactory);
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, Environment environment,
+                                         ObjectProvider<MeterRegistry> meterRegistry,
+                                         String url, String poolSuffix) {
+        HikariConfig config = new HikariConfig();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(config));
+        config.setJdbcUrl(url);
+        config.setDriverClassName(properties.determineDriverClassName());
+        config.setUsername(properties.determineUsername());
+        config.setPassword(properties.determinePassword());
+        if (poolSuffix != null) {
+            config.setPoolName((config.getPoolName() == null ? "pool" : config.getPoolName()) + poolSuffix);
+        }
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        }
+        return new HikariDataSource(config);
+    }
+}
@@ -2,11 +2,30 @@ package uiowa.ais.interview.task;
 
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uiowa.ais.interview.counter.CollectionVersions;
+import uiowa.ais.interview.entity.TaskStatus;
+import uiowa.ais.interview.exception.BadRequestException;
+import uiowa.ais.interview.projection.ConditionalResponses;
+import uiowa.ais.interview.projection.CursorPage;
+import uiowa.ais.interview.task.TaskDTO.BulkReassignDTO;
+import uiowa.ais.interview.task.TaskDTO.BulkStatusDTO;
+import uiowa.ais.interview.task.TaskDTO.BulkUpdateResultDTO;
+import uiowa.ais.interview.task.TaskDTO.CreateTaskBatchDTO;
 import uiowa.ais.interview.task.TaskDTO.CreateTaskDTO;
+import uiowa.ais.interview.task.TaskDTO.PatchTaskDTO;
+import uiowa.ais.interview.task.TaskDTO.TaskPatchResultDTO;
 import uiowa.ais.interview.task.TaskDTO.TaskResponseDTO;
+import uiowa.ais.interview.user.UserDTO.UserResponseDTO;
+
+import java.util.List;
+import java.util.Map;
 
 /**
  * REST Controller for Task management.
@@ -19,9 +38,13 @@ import uiowa.ais.interview.task.TaskDTO.TaskResponseDTO;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskExporter taskExporter;
+    private final CollectionVersions collectionVersions;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskExporter taskExporter, CollectionVersions collectionVersions) {
         this.taskService = taskService;
+        this.taskExporter = taskExporter;
+        this.collectionVersions = collectionVersions;
     }
 
     /**
@@ -46,6 +69,60 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdTask);
     }
 
+    /**
+     * Create many tasks at once.
+     *
+     * POST /api/tasks/batch
+     * Request body: {
+     *                  "tasks": [
+     *                      { "title": "...", "description": "...", "status": "TODO",
+     *                        "priority": "HIGH", "dueDate": "2024-12-31", "assignedUserId": 1 },
+     *                      ...
+     *                  ]
+     *               }
+     *
+     * @param dto Tasks to create (validated, at most 10000)
+     * @return Created tasks with 201 status
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<TaskResponseDTO>> createTasks(@Valid @RequestBody CreateTaskBatchDTO dto) {
+        List<TaskResponseDTO> createdTasks = taskService.createTasks(dto.getTasks());
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdTasks);
+    }
+
+    /**
+     * Move many tasks to one status, selected by ID list or by filter (the same criteria
+     * as the list endpoint). Runs as set-based UPDATEs without loading the tasks.
+     *
+     * POST /api/tasks/bulk/status
+     * Request body: { "ids": [1, 2, 3], "status": "DONE" }
+     *           or: { "filter": { "status": ["IN_PROGRESS"], "assignedUserId": [2] }, "status": "DONE" }
+     * Response: { "updated": 3 }
+     *
+     * @param dto IDs or filter, and the new status (validated)
+     * @return Number of tasks changed; tasks already in the status are not counted
+     */
+    @PostMapping("/bulk/status")
+    public ResponseEntity<BulkUpdateResultDTO> updateStatusInBulk(@Valid @RequestBody BulkStatusDTO dto) {
+        return ResponseEntity.ok(new BulkUpdateResultDTO(taskService.updateStatusInBulk(dto)));
+    }
+
+    /**
+     * Assign many tasks to one user, selected by ID list or by filter, e.g. everything
+     * assigned to a departing user.
+     *
+     * POST /api/tasks/bulk/reassign
+     * Request body: { "filter": { "assignedUserId": [2] }, "assignedUserId": 3 }
+     * Response: { "updated": 4 }
+     *
+     * @param dto IDs or filter, and the new assignee (validated)
+     * @return Number of tasks changed; tasks already assigned to the user are not counted
+     */
+    @PostMapping("/bulk/reassign")
+    public ResponseEntity<BulkUpdateResultDTO> reassignInBulk(@Valid @RequestBody BulkReassignDTO dto) {
+        return ResponseEntity.ok(new BulkUpdateResultDTO(taskService.reassignInBulk(dto)));
+    }
+
     /**
      * Update an existing task.
      *
@@ -59,16 +136,48 @@ public class TaskController {
      *                  "assignedUserId": 2
      *                }
      *
-     * @param id  task ID
-     * @param dto Updated task data (validated)
+     * Send the ETag from a previous GET as If-Match to update only if the task has not
+     * changed since (412 Precondition Failed otherwise). A concurrent update that slips in
+     * between is rejected with 409 Conflict. The response carries the new ETag.
+     *
+     * @param id      task ID
+     * @param dto     Updated task data (validated)
+     * @param ifMatch Optional ETag the task must still have
      * @return Updated task with 200 status
      */
     @PutMapping("/{id}")
     public ResponseEntity<TaskResponseDTO> updateTask(
             @PathVariable Long id,
-            @Valid @RequestBody CreateTaskDTO dto) {
-        TaskResponseDTO updatedtask = taskService.updateTask(id, dto);
-        return ResponseEntity.ok(updatedtask);
+            @Valid @RequestBody CreateTaskDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskResponseDTO updatedtask = taskService.updateTask(id, dto, ifMatch);
+        return withValidators(updatedtask).body(updatedtask);
+    }
+
+    /**
+     * Partially update a task: only the fields present in the body change.
+     * A body with just "status" is applied with a single UPDATE, without loading the task.
+     *
+     * PATCH /api/tasks/{id}
+     * Request body: { "status": "DONE" }
+     *
+     * If-Match works as for PUT. The response holds the task ID, its new version and
+     * updatedAt, and only the fields that changed, plus the new ETag.
+     *
+     * @param id      task ID
+     * @param dto     Fields to change (validated)
+     * @param ifMatch Optional ETag the task must still have
+     * @return Changed fields with 200 status
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<TaskPatchResultDTO> patchTask(
+            @PathVariable Long id,
+            @Valid @RequestBody PatchTaskDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskPatchResultDTO result = taskService.patchTask(id, dto, ifMatch);
+        return ResponseEntity.ok()
+                .eTag(ConditionalResponses.eTag("task", id, result.getVersion(), result.getAssignedUserVersion()))
+                .body(result);
     }
 
     /**
@@ -87,27 +196,38 @@ public class TaskController {
 
     /**
      * Get a single task by ID.
+     * The response carries an ETag (from the versions of the task and its assignee);
+     * a matching If-None-Match gets 304 Not Modified.
      *
      * GET /api/tasks/{id}
      *
      * @param id task ID
-     * @return task data with 200 status
+     * @return task data with 200 status, or 304 if unchanged
      */
     @GetMapping("/{id}")
     public ResponseEntity<TaskResponseDTO> getTaskById(@PathVariable Long id) {
         TaskResponseDTO task = taskService.getTaskById(id);
-        return ResponseEntity.ok(task);
+        return withValidators(task).body(task);
     }
 
     /**
-     * Get all tasks with pagination and optional status filter.
+     * Get all tasks with pagination, optional filters and sorting.
      *
      * GET /api/tasks?status=TODO&page=0&size=10
+     * GET /api/tasks?status=TODO,IN_PROGRESS&priority=HIGH&assignedUserId=1,2&dueTo=2024-12-31&sort=dueDate,asc
      *
-     * Query parameters:
-     * - status (optional): Filter by status (case-insensitive partial match)
-     * - page (optional, default=0): Page number (0-based)
-     * - size (optional, default=10): Number of items per page
+     * Query parameters (all optional; filters are combined with AND):
+     * - status: One or more statuses (comma-separated or repeated)
+     * - priority: One or more priorities
+     * - assignedUserId: One or more assignee IDs
+     * - dueFrom, dueTo: Due date range, inclusive (yyyy-MM-dd)
+     * - createdAfter, updatedAfter: Only tasks created/updated after this time (yyyy-MM-ddTHH:mm:ss)
+     * - sort: id, dueDate or createdAt, optionally followed by ",asc" or ",desc" (default: id,desc)
+     * - page (default=0): Page number (0-based)
+     * - size (default=10): Number of items per page
+     *
+     * Supports If-None-Match: while no task or user has changed,
+     * the answer is 304 Not Modified without querying the database.
      *
      * Response includes:
      * - content: Array of tasks
@@ -116,31 +236,182 @@ public class TaskController {
      * - number: Current page number
      * - size: Page size
      *
-     * @param status Optional status filter
+     * @param filter Task filters
+     * @param sort Sort order (default: newest first)
      * @param page Page number (default: 0)
      * @param size Page size (default: 10)
-     * @return Page of tasks with metadata
+     * @param request Current request, for conditional GET
+     * @return Page of tasks with metadata, or 304 if unchanged
      */
     @GetMapping
     public ResponseEntity<Page<TaskResponseDTO>> getAllTasks(
-            @RequestParam(required = false) String status,
+            TaskFilter filter,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request) {
+        if (request.checkNotModified(collectionVersions.getTasksETag())) {
+            return null;
+        }
+        Page<TaskResponseDTO> tasks = taskService.getAllTasks(filter, sort, page, size);
+        return ResponseEntity.ok(tasks);
+    }
+
+    /**
+     * Get tasks using cursor-based (keyset) pagination.
+     * Selected instead of the page-number endpoint whenever "limit" is present.
+     * No totals are computed, so deep pages cost the same as the first one.
+     *
+     * GET /api/tasks?limit=10
+     * GET /api/tasks?status=...&priority=...&after=<nextCursor>&limit=10
+     *
+     * Query parameters:
+     * - Same filters as the page-number endpoint (sorting is always newest first)
+     * - after (optional): nextCursor from the previous response; omit for the first page
+     * - limit: Number of items per page (max 100)
+     *
+     * Supports conditional GET like the page-number endpoint.
+     *
+     * Response includes:
+     * - content: Array of tasks
+     * - nextCursor: Cursor for the next page, or null if this is the last page
+     * - hasNext: Whether another page exists
+     * - limit: Page size
+     *
+     * @param filter Task filters
+     * @param after Opaque cursor (default: first page)
+     * @param limit Page size
+     * @param request Current request, for conditional GET
+     * @return Tasks plus the cursor for the next page, or 304 if unchanged
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<CursorPage<TaskResponseDTO>> getTasksAfter(
+            TaskFilter filter,
+            @RequestParam(required = false) String after,
+            @RequestParam int limit,
+            WebRequest request) {
+        if (request.checkNotModified(collectionVersions.getTasksETag())) {
+            return null;
+        }
+        CursorPage<TaskResponseDTO> tasks = taskService.getTasksAfter(filter, after, limit);
+        return ResponseEntity.ok(tasks);
+    }
+
+    /**
+     * Full-text search over task titles and descriptions.
+     *
+     * GET /api/tasks/search?q=login bug&page=0&size=10
+     *
+     * Query parameters:
+     * - q: Search text; all words must match. Supports "quoted phrases" and prefix*
+     * - page (optional, default=0): Page number (0-based)
+     * - size (optional, default=10): Number of items per page
+     *
+     * @param q    Search text
+     * @param page Page number (default: 0)
+     * @param size Page size (default: 10)
+     * @return Page of matching tasks, best matches first
+     */
+    @GetMapping("/search")
+    public ResponseEntity<Page<TaskResponseDTO>> searchTasks(
+            @RequestParam String q,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
-        Page<TaskResponseDTO> tasks = taskService.getAllTasks(status, page, size);
+        if (q.isBlank()) {
+            throw new BadRequestException("Search text is required");
+        }
+        Page<TaskResponseDTO> tasks = taskService.searchTasks(q.trim(), page, size);
         return ResponseEntity.ok(tasks);
     }
 
     /**
-     * Get total task count.
+     * Rebuild the search index from the tasks table in the background.
+     *
+     * POST /api/tasks/search/rebuild
+     *
+     * @return 202 Accepted if a rebuild was started, 409 Conflict if one is already running
+     */
+    @PostMapping("/search/rebuild")
+    public ResponseEntity<Void> rebuildSearchIndex() {
+        boolean started = taskService.rebuildSearchIndex();
+        return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT).build();
+    }
+
+    /**
+     * Export all tasks as NDJSON or CSV.
+     * The response is streamed straight from the database cursor, so it works for
+     * any table size without paging or counting.
+     *
+     * GET /api/tasks/export?format=ndjson
+     * GET /api/tasks/export?format=csv
+     *
+     * @param format Output format: ndjson (default) or csv
+     * @return Streaming response body
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        boolean csv = "csv".equalsIgnoreCase(format.trim());
+        if (!csv && !"ndjson".equalsIgnoreCase(format.trim())) {
+            throw new BadRequestException("Unsupported export format: " + format);
+        }
+
+        StreamingResponseBody body = csv ? taskExporter::writeCsv : taskExporter::writeNdjson;
+        return ResponseEntity.ok()
+                .contentType(csv ? MediaType.parseMediaType("text/csv") : MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + (csv ? "csv" : "ndjson") + "\"")
+                .body(body);
+    }
+
+    /**
+     * Get total task count, or the count for one assignee.
      * Useful for dashboard statistics.
      *
      * GET /api/tasks/count
+     * GET /api/tasks/count?assignedUserId=1
      *
-     * @return Total number of tasks
+     * @param assignedUserId Optional assigned user filter
+     * @param request Current request, for conditional GET
+     * @return Total number of tasks, or 304 if unchanged
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> getTotalTaskCount() {
-        long count = taskService.getTotalTaskCount();
+    public ResponseEntity<Long> getTotalTaskCount(@RequestParam(required = false) Long assignedUserId,
+                                                  WebRequest request) {
+        if (request.checkNotModified(collectionVersions.getTasksETag())) {
+            return null;
+        }
+        long count = assignedUserId != null
+                ? taskService.getTaskCountForUser(assignedUserId)
+                : taskService.getTotalTaskCount();
         return ResponseEntity.ok(count);
     }
+
+    /**
+     * Get task counts broken down by status.
+     * Useful for dashboard statistics.
+     *
+     * GET /api/tasks/count/by-status
+     * Response: { "TODO": 6, "IN_PROGRESS": 5, "DONE": 4 }
+     *
+     * @param request Current request, for conditional GET
+     * @return Number of tasks per status, or 304 if unchanged
+     */
+    @GetMapping("/count/by-status")
+    public ResponseEntity<Map<TaskStatus, Long>> getTaskCountsByStatus(WebRequest request) {
+        if (request.checkNotModified(collectionVersions.getTasksETag())) {
+            return null;
+        }
+        Map<TaskStatus, Long> counts = taskService.getTaskCountsByStatus();
+        return ResponseEntity.ok(counts);
+    }
+
+    /**
+     * A 200 response with the task's ETag.
+     * The representation embeds the assignee, so both versions go into the ETag.
+     */
+    private static ResponseEntity.BodyBuilder withValidators(TaskResponseDTO task) {
+        UserResponseDTO user = task.getAssignedUser();
+        return ConditionalResponses.ok(
+                ConditionalResponses.eTag("task", task.getId(), task.getVersion(), user.getVersion()));
+    }
 }
@@ -2,11 +2,20 @@ package uiowa.ais.interview.user;
 
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import uiowa.ais.interview.counter.CollectionVersions;
+import uiowa.ais.interview.projection.ConditionalResponses;
+import uiowa.ais.interview.projection.CursorPage;
 import uiowa.ais.interview.user.UserDTO.CreateUserDTO;
+import uiowa.ais.interview.user.UserDTO.PurgeProgressDTO;
 import uiowa.ais.interview.user.UserDTO.UserResponseDTO;
+import uiowa.ais.interview.user.UserDTO.UserSuggestionDTO;
+
+import java.util.List;
 
 /**
  * REST Controller for User management.
@@ -19,9 +28,13 @@ import uiowa.ais.interview.user.UserDTO.UserResponseDTO;
 public class UserController {
 
     private final UserService userService;
+    private final UserPurger userPurger;
+    private final CollectionVersions collectionVersions;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, UserPurger userPurger, CollectionVersions collectionVersions) {
         this.userService = userService;
+        this.userPurger = userPurger;
+        this.collectionVersions = collectionVersions;
     }
 
     /**
@@ -45,44 +58,77 @@ public class UserController {
      * PUT /api/users/{id}
      * Request body: { "name": "Jane Doe", "email": "jane@example.com" }
      *
-     * @param id  User ID
-     * @param dto Updated user data (validated)
+     * Send the ETag from a previous GET as If-Match to update only if the user has not
+     * changed since (412 Precondition Failed otherwise). A concurrent update that slips in
+     * between is rejected with 409 Conflict. The response carries the new ETag.
+     *
+     * @param id      User ID
+     * @param dto     Updated user data (validated)
+     * @param ifMatch Optional ETag the user must still have
      * @return Updated user with 200 status
      */
     @PutMapping("/{id}")
     public ResponseEntity<UserResponseDTO> updateUser(
             @PathVariable Long id,
-            @Valid @RequestBody CreateUserDTO dto) {
-        UserResponseDTO updatedUser = userService.updateUser(id, dto);
-        return ResponseEntity.ok(updatedUser);
+            @Valid @RequestBody CreateUserDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        UserResponseDTO updatedUser = userService.updateUser(id, dto, ifMatch);
+        return withValidators(updatedUser).body(updatedUser);
     }
 
     /**
-     * Delete a user.
+     * Delete a user and all of their tasks.
+     * With async=true the tasks are deleted in chunks in the background instead, for
+     * users with very many tasks; poll the Location header for progress.
      *
      * DELETE /api/users/{id}
+     * DELETE /api/users/{id}?async=true
      *
-     * @param id User ID
-     * @return 204 No Content on success
+     * @param id    User ID
+     * @param async Purge in the background
+     * @return 204 No Content on success, or 202 Accepted with the purge progress
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
+    public ResponseEntity<PurgeProgressDTO> deleteUser(@PathVariable Long id,
+                                                       @RequestParam(defaultValue = "false") boolean async) {
+        if (async) {
+            PurgeProgressDTO progress = userPurger.start(id);
+            return ResponseEntity.accepted()
+                    .header(HttpHeaders.LOCATION, "/api/users/" + id + "/purge")
+                    .body(progress);
+        }
         userService.deleteUser(id);
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Get the progress of a background user purge.
+     *
+     * GET /api/users/{id}/purge
+     * Response: { "userId": 7, "state": "RUNNING", "totalTasks": 250000, "deletedTasks": 42000, ... }
+     *
+     * @param id User ID
+     * @return Latest purge progress for the user
+     */
+    @GetMapping("/{id}/purge")
+    public ResponseEntity<PurgeProgressDTO> getPurgeProgress(@PathVariable Long id) {
+        return ResponseEntity.ok(userPurger.getProgress(id));
+    }
+
     /**
      * Get a single user by ID.
+     * The response carries an ETag (from the user's version); a matching
+     * If-None-Match gets 304 Not Modified.
      *
      * GET /api/users/{id}
      *
      * @param id User ID
-     * @return User data with 200 status
+     * @return User data with 200 status, or 304 if unchanged
      */
     @GetMapping("/{id}")
     public ResponseEntity<UserResponseDTO> getUserById(@PathVariable Long id) {
         UserResponseDTO user = userService.getUserById(id);
-        return ResponseEntity.ok(user);
+        return withValidators(user).body(user);
     }
 
     /**
@@ -95,6 +141,9 @@ public class UserController {
      * - page (optional, default=0): Page number (0-based)
      * - size (optional, default=10): Number of items per page
      *
+     * Supports If-None-Match: while no user has changed, the
+     * answer is 304 Not Modified without querying the database.
+     *
      * Response includes:
      * - content: Array of users
      * - totalElements: Total number of users matching the filter
@@ -105,28 +154,103 @@ public class UserController {
      * @param name Optional name filter
      * @param page Page number (default: 0)
      * @param size Page size (default: 10)
-     * @return Page of users with metadata
+     * @param request Current request, for conditional GET
+     * @return Page of users with metadata, or 304 if unchanged
      */
     @GetMapping
     public ResponseEntity<Page<UserResponseDTO>> getAllUsers(
             @RequestParam(required = false) String name,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request) {
+        if (request.checkNotModified(collectionVersions.getUsersETag())) {
+            return null;
+        }
         Page<UserResponseDTO> users = userService.getAllUsers(name, page, size);
         return ResponseEntity.ok(users);
     }
 
+    /**
+     * Get users using cursor-based (keyset) pagination.
+     * Selected instead of the page-number endpoint whenever "limit" is present.
+     * No totals are computed, so deep pages cost the same as the first one.
+     *
+     * GET /api/users?limit=10
+     * GET /api/users?name=...&after=<nextCursor>&limit=10
+     *
+     * Query parameters:
+     * - name (optional): Filter by name (case-insensitive partial match)
+     * - after (optional): nextCursor from the previous response; omit for the first page
+     * - limit: Number of items per page (max 100)
+     *
+     * Supports conditional GET like the page-number endpoint.
+     *
+     * Response includes:
+     * - content: Array of users
+     * - nextCursor: Cursor for the next page, or null if this is the last page
+     * - hasNext: Whether another page exists
+     * - limit: Page size
+     *
+     * @param name Optional name filter
+     * @param after Opaque cursor (default: first page)
+     * @param limit Page size
+     * @param request Current request, for conditional GET
+     * @return Users plus the cursor for the next page, or 304 if unchanged
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<CursorPage<UserResponseDTO>> getUsersAfter(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String after,
+            @RequestParam int limit,
+            WebRequest request) {
+        if (request.checkNotModified(collectionVersions.getUsersETag())) {
+            return null;
+        }
+        CursorPage<UserResponseDTO> users = userService.getUsersAfter(name, after, limit);
+        return ResponseEntity.ok(users);
+    }
+
+    /**
+     * Suggest users as the client types, for user pickers.
+     * Matches names by prefix first, then names and emails by substring.
+     * Answered from memory, so it is cheap enough to call on every keystroke.
+     *
+     * GET /api/users/typeahead?q=jo&limit=10
+     *
+     * @param q     Text typed so far
+     * @param limit Maximum number of suggestions (default: 10, max 50)
+     * @return Matching users with only id and name
+     */
+    @GetMapping("/typeahead")
+    public ResponseEntity<List<UserSuggestionDTO>> suggestUsers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<UserSuggestionDTO> suggestions = userService.suggestUsers(q, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+
     /**
      * Get total user count.
      * Useful for dashboard statistics.
      *
      * GET /api/users/count
      *
-     * @return Total number of users
+     * @param request Current request, for conditional GET
+     * @return Total number of users, or 304 if unchanged
      */
     @GetMapping("/count")
-    public ResponseEntity<Long> getTotalUserCount() {
+    public ResponseEntity<Long> getTotalUserCount(WebRequest request) {
+        if (request.checkNotModified(collectionVersions.getUsersETag())) {
+            return null;
+        }
         long count = userService.getTotalUserCount();
         return ResponseEntity.ok(count);
     }
+
+    /**
+     * A 200 response with the user's ETag.
+     */
+    private static ResponseEntity.BodyBuilder withValidators(UserResponseDTO user) {
+        return ConditionalResponses.ok(ConditionalResponses.eTag("user", user.getId(), user.getVersion()));
+    }
 }
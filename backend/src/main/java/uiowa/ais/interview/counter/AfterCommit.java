@@ -0,0 +1,32 @@
+package uiowa.ais.interview.counter;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers changes to in-memory state derived from the tables (counters, collection
+ * versions, search indexes, caches) until the current transaction commits, so
+ * rolled-back writes never reach it.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * Run the change once the current transaction commits. Without a transaction it
+     * runs immediately.
+     */
+    public static void run(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,68 @@
+package uiowa.ais.interview.counter;
+
+import org.springframework.stereotype.Component;
+import uiowa.ais.interview.routing.ReadYourWrites;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory version numbers for the task and user collections, used as ETag
+ * validators for list and count endpoints.
+ *
+ * TaskService and UserService report every write; the version is bumped after the
+ * surrounding transaction commits, so a client can never hold a version whose data was
+ * rolled back. Task lists embed their assignees, so user changes bump the task version
+ * too. ETags include the process start time, so versions from before a restart never
+ * match. Writes made outside the services (e.g. plain SQL) are not seen.
+ *
+ * Callers should read the ETag before querying: a write committing in between then
+ * only causes one extra full response, never a stale 304. There is deliberately no
+ * Last-Modified: HTTP dates have whole seconds, so an If-Modified-Since would match
+ * after a second write within the same second.
+ *
+ * A request whose reads go to a replica gets no ETag (null), so it is neither answered
+ * with 304 nor given a version its replica data may not have reached yet.
+ */
+@Component
+public class CollectionVersions {
+
+    private final String instance = Long.toString(System.currentTimeMillis(), 36);
+
+    private final Version tasks = new Version();
+    private final Version users = new Version();
+
+    // Reads
+
+    public String getTasksETag() {
+        return ReadYourWrites.readsFromReplicas() ? null : tasks.eTag("tasks");
+    }
+
+    public String getUsersETag() {
+        return ReadYourWrites.readsFromReplicas() ? null : users.eTag("users");
+    }
+
+    // Updates (applied after commit)
+
+    public void tasksChanged() {
+        AfterCommit.run(tasks::bump);
+    }
+
+    public void usersChanged() {
+        AfterCommit.run(() -> {
+            users.bump();
+            tasks.bump();
+        });
+    }
+
+    private final class Version {
+        private final AtomicLong number = new AtomicLong();
+
+        private void bump() {
+            number.incrementAndGet();
+        }
+
+        private String eTag(String collection) {
+            return "\"" + collection + "-" + instance + "-" + number.get() + "\"";
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package uiowa.ais.interview.counter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import uiowa.ais.interview.entity.TaskStatus;
+import uiowa.ais.interview.routing.ReadYourWrites;
+import uiowa.ais.interview.task.TaskRepository;
+import uiowa.ais.interview.user.UserRepository;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory row counters for the dashboard and paged endpoints.
+ *
+ * Counts are kept per TaskStatus, per assigned user and for users overall, so reading
+ * them is O(1) instead of a COUNT over the whole table. TaskService and UserService
+ * report every create/update/delete; changes are applied only after the surrounding
+ * transaction commits. Counters are rebuilt from the database at startup and then
+ * periodically, which corrects any drift from concurrent writes.
+ *
+ * A rebuild reads the counts, then installs them. A change applied in between may be
+ * missing from the counts read and is overwritten, so every applied change bumps a
+ * change count; if it moved during a rebuild, the counters are rebuilt again on the
+ * next read. Rebuilds always read from the primary.
+ */
+@Component
+public class EntityCounters {
+
+    private static final Logger log = LoggerFactory.getLogger(EntityCounters.class);
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    // For rebuilds requested inside a transaction that reads from a replica
+    private final TransactionTemplate primaryTransaction;
+
+    private final AtomicLong userTotal = new AtomicLong();
+    private final Map<TaskStatus, AtomicLong> tasksByStatus = new EnumMap<>(TaskStatus.class);
+    private volatile Map<Long, AtomicLong> tasksByUser = new ConcurrentHashMap<>();
+
+    // Set when a change cannot be applied incrementally (e.g. a user deleted with their tasks)
+    private volatile boolean stale = true;
+    // Changes applied so far, to detect those racing a rebuild
+    private final AtomicLong changes = new AtomicLong();
+
+    // A lock rather than synchronized: reconcile runs queries, and blocking on JDBC inside
+    // a synchronized block would pin the carrier thread when requests run on virtual threads
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+
+    public EntityCounters(TaskRepository taskRepository, UserRepository userRepository,
+                          PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.primaryTransaction.setReadOnly(true);
+        this.primaryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (TaskStatus status : TaskStatus.values()) {
+            tasksByStatus.put(status, new AtomicLong());
+        }
+    }
+
+    // Reads
+
+    public long getTaskCount() {
+        ensureFresh();
+        long total = 0;
+        for (AtomicLong count : tasksByStatus.values()) {
+            total += count.get();
+        }
+        return total;
+    }
+
+    public long getTaskCount(TaskStatus status) {
+        ensureFresh();
+        return tasksByStatus.get(status).get();
+    }
+
+    public long getTaskCountForUser(Long userId) {
+        ensureFresh();
+        AtomicLong count = tasksByUser.get(userId);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * Task count for every status, including statuses with no tasks.
+     */
+    public Map<TaskStatus, Long> getTaskCountsByStatus() {
+        ensureFresh();
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        tasksByStatus.forEach((status, count) -> counts.put(status, count.get()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    public long getUserCount() {
+        ensureFresh();
+        return userTotal.get();
+    }
+
+    // Writes (applied after commit)
+
+    public void taskCreated(TaskStatus status, Long userId) {
+        applyAfterCommit(() -> adjustTask(status, userId, 1));
+    }
+
+    public void taskDeleted(TaskStatus status, Long userId) {
+        applyAfterCommit(() -> adjustTask(status, userId, -1));
+    }
+
+    public void taskChanged(TaskStatus oldStatus, Long oldUserId, TaskStatus newStatus, Long newUserId) {
+        if (oldStatus == newStatus && oldUserId.equals(newUserId)) {
+            return;
+        }
+        applyAfterCommit(() -> {
+            adjustTask(oldStatus, oldUserId, -1);
+            adjustTask(newStatus, newUserId, 1);
+        });
+    }
+
+    /**
+     * Bulk updates do not report the old status and assignee of each task, so the
+     * task counters are rebuilt on the next read.
+     */
+    public void tasksChangedInBulk() {
+        applyAfterCommit(() -> stale = true);
+    }
+
+    public void userCreated() {
+        applyAfterCommit(userTotal::incrementAndGet);
+    }
+
+    /**
+     * The user's tasks are deleted with them, and their per-status split is not
+     * tracked per user, so the task counters are rebuilt on the next read.
+     */
+    public void userDeleted(Long userId) {
+        applyAfterCommit(() -> {
+            userTotal.decrementAndGet();
+            tasksByUser.remove(userId);
+            stale = true;
+        });
+    }
+
+    // Reconciliation
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reconcile();
+    }
+
+    /**
+     * Rebuild all counters from the database.
+     * Runs on a fixed delay (app.counters.reconcile-interval, default 5 minutes).
+     */
+    @Scheduled(initialDelayString = "${app.counters.reconcile-interval:PT5M}",
+               fixedDelayString = "${app.counters.reconcile-interval:PT5M}")
+    public void reconcile() {
+        reconcileLock.lock();
+        try {
+            doReconcile();
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    private void doReconcile() {
+        long changesBefore = changes.get();
+        Counts counts = ReadYourWrites.readsFromReplicas()
+                // The caller's transaction may already hold a replica connection
+                ? ReadYourWrites.onPrimary(() -> primaryTransaction.execute(status -> readCounts()))
+                : ReadYourWrites.onPrimary(this::readCounts);
+
+        tasksByStatus.forEach((status, count) -> count.set(counts.byStatus().getOrDefault(status, 0L)));
+        tasksByUser = counts.byUser();
+        userTotal.set(counts.users());
+        // A change applied since the counts were read may be missing from them
+        stale = changes.get() != changesBefore;
+
+        log.debug("Reconciled counters: tasks={}, users={}, stale={}", counts.byStatus(), counts.users(), stale);
+    }
+
+    private Counts readCounts() {
+        Map<TaskStatus, Long> statusCounts = new EnumMap<>(TaskStatus.class);
+        taskRepository.countGroupByStatus()
+                .forEach(row -> statusCounts.put(row.getStatus(), row.getTotal()));
+
+        Map<Long, AtomicLong> userCounts = new ConcurrentHashMap<>();
+        taskRepository.countGroupByUser()
+                .forEach(row -> userCounts.put(row.getUserId(), new AtomicLong(row.getTotal())));
+
+        return new Counts(statusCounts, userCounts, userRepository.count());
+    }
+
+    private void ensureFresh() {
+        if (!stale) {
+            return;
+        }
+        reconcileLock.lock();
+        try {
+            // Another reader may have rebuilt them while this one waited
+            if (stale) {
+                doReconcile();
+            }
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    private void adjustTask(TaskStatus status, Long userId, long delta) {
+        tasksByStatus.get(status).addAndGet(delta);
+        tasksByUser.computeIfAbsent(userId, id -> new AtomicLong()).addAndGet(delta);
+    }
+
+    /**
+     * Apply the change after commit and count it (see the class comment).
+     */
+    private void applyAfterCommit(Runnable change) {
+        AfterCommit.run(() -> {
+            change.run();
+            changes.incrementAndGet();
+        });
+    }
+
+    private record Counts(Map<TaskStatus, Long> byStatus, Map<Long, AtomicLong> byUser, long users) {
+    }
+}
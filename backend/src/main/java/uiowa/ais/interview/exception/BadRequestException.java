@@ -0,0 +1,16 @@
+package uiowa.ais.interview.exception;
+
+/**
+ * Custom exception thrown when a request parameter is malformed.
+ * For example, when a pagination cursor cannot be decoded.
+ */
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+
+    public BadRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
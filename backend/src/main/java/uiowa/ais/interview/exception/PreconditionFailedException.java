@@ -0,0 +1,12 @@
+package uiowa.ais.interview.exception;
+
+/**
+ * Custom exception thrown when a conditional request's precondition does not hold.
+ * For example, when the If-Match ETag of an update no longer matches the stored version.
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,100 @@
+package uiowa.ais.interview.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records how many SQL statements each HTTP request executed, and flags requests
+ * that look like N+1 or slow-query regressions.
+ *
+ * The count is published as the http.server.requests.sql.statements histogram, tagged
+ * with the same method and uri pattern as Spring's http.server.requests timer.
+ * Requests that exceed app.sql.query-budget statements or take longer than
+ * app.sql.slow-request-threshold are logged with the SQL shapes they ran.
+ * Only /api requests are measured.
+ *
+ * Statements are counted per thread (see SqlStatementTracker), so only those run on the
+ * request thread are included. The task export's StreamingResponseBody, which writes on
+ * an async thread, and UserPurger's background chunks are not counted.
+ */
+@Component
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestMetricsFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int queryBudget;
+    private final long slowRequestThresholdMillis;
+    // One summary per (method, uri), so requests do not build and register a meter each time
+    private final Map<String, DistributionSummary> statementSummaries = new ConcurrentHashMap<>();
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry,
+                                @Value("${app.sql.query-budget:10}") int queryBudget,
+                                @Value("${app.sql.slow-request-threshold:1s}") Duration slowRequestThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.queryBudget = queryBudget;
+        this.slowRequestThresholdMillis = slowRequestThreshold.toMillis();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long started = System.nanoTime();
+        SqlStatementTracker.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementTracker.Summary summary = SqlStatementTracker.end();
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+            String uri = uriPattern(request);
+
+            statementSummary(request.getMethod(), uri).record(summary.getStatements());
+
+            if (summary.getStatements() > queryBudget || elapsedMillis >= slowRequestThresholdMillis) {
+                log.warn("{} {} ran {} SQL statements ({} ms in SQL, {} ms total; budget {} statements):{}",
+                        request.getMethod(), uri, summary.getStatements(), summary.getElapsedMillis(),
+                        elapsedMillis, queryBudget, summary.describeShapes());
+            }
+        }
+    }
+
+    private DistributionSummary statementSummary(String method, String uri) {
+        return statementSummaries.computeIfAbsent(method + ' ' + uri, key ->
+                DistributionSummary.builder("http.server.requests.sql.statements")
+                        .description("SQL statements executed per HTTP request")
+                        .baseUnit("statements")
+                        .tag("method", method)
+                        .tag("uri", uri)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+    }
+
+    /**
+     * The matched handler pattern (e.g. /api/tasks/{id}) keeps tag cardinality bounded.
+     */
+    private static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
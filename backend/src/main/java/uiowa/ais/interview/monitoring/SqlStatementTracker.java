@@ -0,0 +1,168 @@
+package uiowa.ais.interview.monitoring;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Counts JDBC statement executions made by the current thread.
+ *
+ * Installed as a listener on the proxied DataSource (see DataSourceProxyConfig), so it
+ * sees every statement regardless of whether it came from Hibernate, Spring Data or
+ * JdbcTemplate. Callers open a scope with begin() and close it with end(), which
+ * returns the statement count, total statement time and the distinct SQL shapes seen.
+ * Scopes nest (a test scope around a request scope): inner counts also add to the
+ * outer scope. Statements outside any scope are ignored.
+ *
+ * Individual statements slower than the configured threshold are logged as they finish.
+ */
+public class SqlStatementTracker implements QueryExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementTracker.class);
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    // Upper bound on distinct shapes remembered per scope, so huge requests stay cheap
+    private static final int MAX_SHAPES = 50;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final long slowQueryThresholdMillis;
+
+    public SqlStatementTracker(Duration slowQueryThreshold) {
+        this.slowQueryThresholdMillis = slowQueryThreshold.toMillis();
+    }
+
+    /**
+     * Start counting statements on this thread.
+     */
+    public static void begin() {
+        CURRENT.set(new Scope(CURRENT.get()));
+    }
+
+    /**
+     * Stop counting and return what was executed since the matching begin().
+     */
+    public static Summary end() {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return new Summary(0, 0, Collections.emptyMap());
+        }
+        if (scope.parent != null) {
+            CURRENT.set(scope.parent);
+        } else {
+            CURRENT.remove();
+        }
+        return new Summary(scope.statements, scope.elapsedMillis, Collections.unmodifiableMap(scope.shapes));
+    }
+
+    /**
+     * Statements executed so far in the innermost scope (0 when none is open).
+     */
+    public static long current() {
+        Scope scope = CURRENT.get();
+        return scope == null ? 0 : scope.statements;
+    }
+
+    /**
+     * Reduce a SQL string to its shape: literals become ?, IN lists collapse and
+     * whitespace is normalized, so the same query with different values groups together.
+     */
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?...)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+        if (elapsed >= slowQueryThresholdMillis && !queryInfoList.isEmpty()) {
+            log.warn("Slow SQL statement ({} ms): {}", elapsed, shapeOf(queryInfoList.get(0).getQuery()));
+        }
+
+        String shape = queryInfoList.isEmpty() ? "" : shapeOf(queryInfoList.get(0).getQuery());
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.record(shape, elapsed);
+        }
+    }
+
+    private static final class Scope {
+        private final Scope parent;
+        private final Map<String, Integer> shapes = new LinkedHashMap<>();
+        private long statements;
+        private long elapsedMillis;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void record(String shape, long elapsed) {
+            // A JDBC batch is one round trip, so it counts as one statement
+            statements++;
+            elapsedMillis += elapsed;
+            if (shapes.containsKey(shape) || shapes.size() < MAX_SHAPES) {
+                shapes.merge(shape, 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * What a scope executed: statement count, time spent in statements, and how many
+     * times each SQL shape ran (in first-seen order).
+     */
+    public static final class Summary {
+        private final long statements;
+        private final long elapsedMillis;
+        private final Map<String, Integer> shapes;
+
+        public Summary(long statements, long elapsedMillis, Map<String, Integer> shapes) {
+            this.statements = statements;
+            this.elapsedMillis = elapsedMillis;
+            this.shapes = shapes;
+        }
+
+        public long getStatements() {
+            return statements;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        public Map<String, Integer> getShapes() {
+            return shapes;
+        }
+
+        /**
+         * Shapes with their execution counts, one per line, most repeated first.
+         * Repeated shapes are the usual sign of an N+1.
+         */
+        public String describeShapes() {
+            StringBuilder description = new StringBuilder();
+            shapes.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .forEach(entry -> description.append("\n  ")
+                            .append(entry.getValue()).append("x ")
+                            .append(entry.getKey()));
+            return description.toString();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package uiowa.ais.interview.projection;
+
+import org.springframework.http.ResponseEntity;
+import uiowa.ais.interview.exception.PreconditionFailedException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ETag validators for single resources.
+ *
+ * ETags are strong and built from the @Version of the resource and of anything embedded
+ * in its representation (e.g. a task and its assignee), so they change exactly when the
+ * representation does. Spring MVC compares them with If-None-Match on GET and answers
+ * 304 Not Modified without serializing the body; updates compare them with If-Match
+ * through checkIfMatch, or turn them into version conditions of the UPDATE itself
+ * through ifMatchVersions.
+ *
+ * There is deliberately no Last-Modified (as for collections, see CollectionVersions):
+ * HTTP dates have whole seconds, so an If-Modified-Since would still match after a
+ * second write within the same second.
+ */
+public final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    /**
+     * Strong ETag for one resource, e.g. "task-3-5.2".
+     *
+     * @param kind     Resource kind (e.g. "task")
+     * @param id       Resource ID
+     * @param versions Version of the resource, then of anything embedded in it
+     */
+    public static String eTag(String kind, Long id, Long... versions) {
+        StringBuilder eTag = new StringBuilder("\"").append(kind).append('-').append(id).append('-');
+        for (int i = 0; i < versions.length; i++) {
+            if (i > 0) {
+                eTag.append('.');
+            }
+            eTag.append(versions[i]);
+        }
+        return eTag.append('"').toString();
+    }
+
+    /**
+     * A 200 response builder carrying the ETag.
+     *
+     * @param eTag ETag of the representation (see eTag)
+     */
+    public static ResponseEntity.BodyBuilder ok(String eTag) {
+        return ResponseEntity.ok().eTag(eTag);
+    }
+
+    /**
+     * Enforce an If-Match header against the resource's current ETag.
+     * Uses strong comparison, so weak (W/) ETags never match; "*" matches any.
+     *
+     * @param ifMatch     If-Match header value, or null when the client sent none
+     * @param currentETag ETag of the stored resource
+     * @throws PreconditionFailedException if none of the listed ETags is current
+     */
+    public static void checkIfMatch(String ifMatch, String currentETag) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return;
+        }
+        for (String candidate : ifMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(currentETag)) {
+                return;
+            }
+        }
+        throw new PreconditionFailedException(
+                "Resource has changed: If-Match " + ifMatch + " does not match current ETag " + currentETag);
+    }
+
+    /**
+     * The versions an If-Match header expects for one resource, so an update can check
+     * them in its WHERE clause instead of reading the resource first.
+     * Each entry holds the versions of one listed ETag, in eTag order.
+     *
+     * @param ifMatch If-Match header value, or null when the client sent none
+     * @param kind    Resource kind (e.g. "task")
+     * @param id      Resource ID
+     * @return Empty if there is no precondition (no header, or "*")
+     * @throws PreconditionFailedException if no listed ETag can belong to this resource
+     */
+    public static List<long[]> ifMatchVersions(String ifMatch, String kind, Long id) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return List.of();
+        }
+        String prefix = "\"" + kind + "-" + id + "-";
+        List<long[]> candidates = new ArrayList<>();
+        for (String candidate : ifMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*")) {
+                return List.of();
+            }
+            if (trimmed.startsWith(prefix) && trimmed.endsWith("\"") && trimmed.length() > prefix.length() + 1) {
+                try {
+                    String[] parts = trimmed.substring(prefix.length(), trimmed.length() - 1).split("\\.");
+                    long[] versions = new long[parts.length];
+                    for (int i = 0; i < parts.length; i++) {
+                        versions[i] = Long.parseLong(parts[i]);
+                    }
+                    candidates.add(versions);
+                } catch (NumberFormatException ex) {
+                    // Not one of our ETags; it can never match
+                }
+            }
+        }
+        if (candidates.isEmpty()) {
+            throw new PreconditionFailedException(
+                    "Resource has changed: If-Match " + ifMatch + " does not match the current ETag");
+        }
+        return candidates;
+    }
+}
@@ -0,0 +1,96 @@
+package uiowa.ais.interview.projection;
+
+import uiowa.ais.interview.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Response wrapper for cursor-based (keyset) pagination.
+ * Unlike Page, it carries no totals, so no COUNT query is needed to build it.
+ *
+ * The cursor is opaque to clients: pass nextCursor back as the "after" parameter
+ * to fetch the following page. A null nextCursor means there are no more items.
+ */
+public class CursorPage<T> {
+
+    /**
+     * Upper bound for the page size a client may request.
+     */
+    public static final int MAX_LIMIT = 100;
+
+    private static final String CURSOR_PREFIX = "id:";
+
+    private final List<T> content;
+    private final String nextCursor;
+    private final int limit;
+
+    public CursorPage(List<T> content, String nextCursor, int limit) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.limit = limit;
+    }
+
+    /**
+     * Build a page from rows fetched with limit + 1.
+     * The extra row only tells us whether another page exists; it is not returned.
+     *
+     * @param rows  Rows ordered by ID descending, at most limit + 1 of them
+     * @param limit Requested page size
+     * @param idOf  Extracts the ID used as the next cursor
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, Long> idOf) {
+        boolean hasNext = rows.size() > limit;
+        List<T> content = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? encode(idOf.apply(content.get(limit - 1))) : null;
+        return new CursorPage<>(content, nextCursor, limit);
+    }
+
+    /**
+     * Encode an ID as an opaque cursor.
+     */
+    public static String encode(Long id) {
+        byte[] raw = (CURSOR_PREFIX + id).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    /**
+     * Decode a cursor back to the ID it points at.
+     * A missing cursor means "start from the newest item".
+     *
+     * @throws BadRequestException if the cursor was not produced by encode()
+     */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            if (!raw.startsWith(CURSOR_PREFIX)) {
+                throw new BadRequestException("Invalid cursor: " + cursor);
+            }
+            return Long.parseLong(raw.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid cursor: " + cursor, ex);
+        }
+    }
+
+    // Getters
+    public List<T> getContent() {
+        return content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+}
@@ -1,6 +1,10 @@
 package uiowa.ais.interview.task;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import uiowa.ais.interview.entity.User;
@@ -11,6 +15,7 @@ import uiowa.ais.interview.entity.TaskPriority;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Data Transfer Objects for Task entity.
@@ -124,6 +129,362 @@ public class TaskDTO {
         }
     }
 
+    /**
+     * DTO for creating many tasks in one request.
+     * Each entry is validated like a single CreateTaskDTO.
+     */
+    public static class CreateTaskBatchDTO {
+        @NotEmpty(message = "Tasks are required")
+        @Size(max = 10000, message = "A batch must not exceed 10000 tasks")
+        private List<@Valid CreateTaskDTO> tasks;
+
+        // Constructors
+        public CreateTaskBatchDTO() {
+        }
+
+        public CreateTaskBatchDTO(List<CreateTaskDTO> tasks) {
+            this.tasks = tasks;
+        }
+
+        // Getters and Setters
+        public List<CreateTaskDTO> getTasks() {
+            return tasks;
+        }
+
+        public void setTasks(List<CreateTaskDTO> tasks) {
+            this.tasks = tasks;
+        }
+    }
+
+    /**
+     * DTO for partially updating a task (PATCH).
+     * Every field is optional; absent (null) fields are left unchanged.
+     */
+    public static class PatchTaskDTO {
+        @Size(min = 1, max = 100, message = "Title must be between 1 and 100 characters")
+        private String title;
+
+        @Size(min = 1, max = 1000, message = "Description must be between 1 and 1000 characters")
+        private String description;
+
+        private TaskStatus status;
+
+        private TaskPriority priority;
+
+        private LocalDate dueDate;
+
+        private Long assignedUserId;
+
+        // Constructors
+        public PatchTaskDTO() {
+        }
+
+        /**
+         * True if nothing would change.
+         */
+        public boolean isEmpty() {
+            return status == null && !hasFieldsBesidesStatus();
+        }
+
+        /**
+         * True if only the status is being changed. Such patches take the single-UPDATE
+         * fast path in TaskService.patchTask.
+         */
+        public boolean isStatusOnly() {
+            return status != null && !hasFieldsBesidesStatus();
+        }
+
+        private boolean hasFieldsBesidesStatus() {
+            return title != null || description != null || priority != null
+                    || dueDate != null || assignedUserId != null;
+        }
+
+        // Getters and Setters
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+
+        public TaskStatus getStatus() {
+            return status;
+        }
+
+        public void setStatus(TaskStatus status) {
+            this.status = status;
+        }
+
+        public TaskPriority getPriority() {
+            return priority;
+        }
+
+        public void setPriority(TaskPriority priority) {
+            this.priority = priority;
+        }
+
+        public LocalDate getDueDate() {
+            return dueDate;
+        }
+
+        public void setDueDate(LocalDate dueDate) {
+            this.dueDate = dueDate;
+        }
+
+        public Long getAssignedUserId() {
+            return assignedUserId;
+        }
+
+        public void setAssignedUserId(Long assignedUserId) {
+            this.assignedUserId = assignedUserId;
+        }
+    }
+
+    /**
+     * DTO for PATCH responses: the task ID, its new version and updatedAt, and only the
+     * fields that changed. Unchanged fields are null and left out of the JSON.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class TaskPatchResultDTO {
+        private Long id;
+        private String title;
+        private String description;
+        private TaskStatus status;
+        private TaskPriority priority;
+        private LocalDate dueDate;
+        private Long assignedUserId;
+        private LocalDateTime updatedAt;
+        private Long version;
+
+        // Not part of the body; the controller needs it for the ETag
+        @JsonIgnore
+        private Long assignedUserVersion;
+
+        // Constructors
+        public TaskPatchResultDTO() {
+        }
+
+        public TaskPatchResultDTO(Long id, LocalDateTime updatedAt, Long version, Long assignedUserVersion) {
+            this.id = id;
+            this.updatedAt = updatedAt;
+            this.version = version;
+            this.assignedUserVersion = assignedUserVersion;
+        }
+
+        // Getters and Setters
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+
+        public TaskStatus getStatus() {
+            return status;
+        }
+
+        public void setStatus(TaskStatus status) {
+            this.status = status;
+        }
+
+        public TaskPriority getPriority() {
+            return priority;
+        }
+
+        public void setPriority(TaskPriority priority) {
+            this.priority = priority;
+        }
+
+        public LocalDate getDueDate() {
+            return dueDate;
+        }
+
+        public void setDueDate(LocalDate dueDate) {
+            this.dueDate = dueDate;
+        }
+
+        public Long getAssignedUserId() {
+            return assignedUserId;
+        }
+
+        public void setAssignedUserId(Long assignedUserId) {
+            this.assignedUserId = assignedUserId;
+        }
+
+        public LocalDateTime getUpdatedAt() {
+            return updatedAt;
+        }
+
+        public void setUpdatedAt(LocalDateTime updatedAt) {
+            this.updatedAt = updatedAt;
+        }
+
+        public Long getVersion() {
+            return version;
+        }
+
+        public void setVersion(Long version) {
+            this.version = version;
+        }
+
+        public Long getAssignedUserVersion() {
+            return assignedUserVersion;
+        }
+
+        public void setAssignedUserVersion(Long assignedUserVersion) {
+            this.assignedUserVersion = assignedUserVersion;
+        }
+    }
+
+    /**
+     * DTO for moving many tasks to one status.
+     * Selects tasks either by ID list or by filter (exactly one of the two).
+     */
+    public static class BulkStatusDTO {
+        @Size(max = 10000, message = "At most 10000 task IDs per request")
+        private List<Long> ids;
+
+        private TaskFilter filter;
+
+        @NotNull(message = "Status is required")
+        private TaskStatus status;
+
+        // Constructors
+        public BulkStatusDTO() {
+        }
+
+        public BulkStatusDTO(List<Long> ids, TaskFilter filter, TaskStatus status) {
+            this.ids = ids;
+            this.filter = filter;
+            this.status = status;
+        }
+
+        // Getters and Setters
+        public List<Long> getIds() {
+            return ids;
+        }
+
+        public void setIds(List<Long> ids) {
+            this.ids = ids;
+        }
+
+        public TaskFilter getFilter() {
+            return filter;
+        }
+
+        public void setFilter(TaskFilter filter) {
+            this.filter = filter;
+        }
+
+        public TaskStatus getStatus() {
+            return status;
+        }
+
+        public void setStatus(TaskStatus status) {
+            this.status = status;
+        }
+    }
+
+    /**
+     * DTO for assigning many tasks to one user.
+     * Selects tasks either by ID list or by filter (exactly one of the two).
+     */
+    public static class BulkReassignDTO {
+        @Size(max = 10000, message = "At most 10000 task IDs per request")
+        private List<Long> ids;
+
+        private TaskFilter filter;
+
+        @NotNull(message = "Assigned user is required")
+        private Long assignedUserId;
+
+        // Constructors
+        public BulkReassignDTO() {
+        }
+
+        public BulkReassignDTO(List<Long> ids, TaskFilter filter, Long assignedUserId) {
+            this.ids = ids;
+            this.filter = filter;
+            this.assignedUserId = assignedUserId;
+        }
+
+        // Getters and Setters
+        public List<Long> getIds() {
+            return ids;
+        }
+
+        public void setIds(List<Long> ids) {
+            this.ids = ids;
+        }
+
+        public TaskFilter getFilter() {
+            return filter;
+        }
+
+        public void setFilter(TaskFilter filter) {
+            this.filter = filter;
+        }
+
+        public Long getAssignedUserId() {
+            return assignedUserId;
+        }
+
+        public void setAssignedUserId(Long assignedUserId) {
+            this.assignedUserId = assignedUserId;
+        }
+    }
+
+    /**
+     * DTO for bulk update responses: how many tasks actually changed.
+     * Tasks that already had the requested value are not counted.
+     */
+    public static class BulkUpdateResultDTO {
+        private int updated;
+
+        // Constructors
+        public BulkUpdateResultDTO() {
+        }
+
+        public BulkUpdateResultDTO(int updated) {
+            this.updated = updated;
+        }
+
+        // Getters and Setters
+        public int getUpdated() {
+            return updated;
+        }
+
+        public void setUpdated(int updated) {
+            this.updated = updated;
+        }
+    }
+
     /**
      * DTO for returning task data in API responses.
      * Contains all task information we want to expose to clients.
@@ -137,6 +498,8 @@ public class TaskDTO {
         private LocalDate dueDate;
         private UserResponseDTO assignedUser;
         private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+        private Long version;
 
         // Constructors
         public TaskResponseDTO() {
@@ -149,7 +512,9 @@ public class TaskDTO {
                                 TaskPriority priority,
                                 LocalDate dueDate,
                                 User user,
-                                LocalDateTime createdAt) {
+                                LocalDateTime createdAt,
+                                LocalDateTime updatedAt,
+                                Long version) {
             this.id = id;
             this.title = title;
             this.description = description;
@@ -158,6 +523,39 @@ public class TaskDTO {
             this.dueDate = dueDate;
             this.assignedUser = UserResponseDTO.fromEntity(user);
             this.createdAt = createdAt;
+            this.updatedAt = updatedAt;
+            this.version = version;
+        }
+
+        /**
+         * Flat constructor used by JPQL constructor expressions in TaskRepository.
+         * The assignee columns come from the same row, so no User entity is loaded.
+         */
+        public TaskResponseDTO(Long id,
+                                String title,
+                                String description,
+                                TaskStatus status,
+                                TaskPriority priority,
+                                LocalDate dueDate,
+                                Long userId,
+                                String userName,
+                                String userEmail,
+                                LocalDateTime userCreatedAt,
+                                LocalDateTime userUpdatedAt,
+                                Long userVersion,
+                                LocalDateTime createdAt,
+                                LocalDateTime updatedAt,
+                                Long version) {
+            this.id = id;
+            this.title = title;
+            this.description = description;
+            this.status = status;
+            this.priority = priority;
+            this.dueDate = dueDate;
+            this.assignedUser = new UserResponseDTO(userId, userName, userEmail, userCreatedAt, userUpdatedAt, userVersion);
+            this.createdAt = createdAt;
+            this.updatedAt = updatedAt;
+            this.version = version;
         }
 
         // Getters and Setters
@@ -225,6 +623,21 @@ public class TaskDTO {
             this.createdAt = createdAt;
         }
 
+        public LocalDateTime getUpdatedAt() {
+            return updatedAt;
+        }
+
+        public void setUpdatedAt(LocalDateTime updatedAt) {
+            this.updatedAt = updatedAt;
+        }
+
+        public Long getVersion() {
+            return version;
+        }
+
+        public void setVersion(Long version) {
+            this.version = version;
+        }
 
         /**
          * Convert Entity to DTO.
@@ -239,7 +652,9 @@ public class TaskDTO {
                     task.getPriority(),
                     task.getDueDate(),
                     task.getUser(),
-                    task.getCreatedAt()
+                    task.getCreatedAt(),
+                    task.getUpdatedAt(),
+                    task.getVersion()
             );
         }
     }
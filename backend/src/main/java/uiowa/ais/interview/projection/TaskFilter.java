@@ -0,0 +1,183 @@
+package uiowa.ais.interview.task;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import uiowa.ais.interview.entity.TaskPriority;
+import uiowa.ais.interview.entity.TaskStatus;
+import uiowa.ais.interview.exception.BadRequestException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Optional criteria for listing tasks. Every field left empty is ignored; the rest are
+ * combined with AND into one query (see TaskFilterRepositoryImpl).
+ *
+ * Bound from query parameters, e.g.
+ * GET /api/tasks?status=TODO,IN_PROGRESS&priority=HIGH&assignedUserId=1&dueTo=2024-12-31
+ */
+public class TaskFilter {
+
+    /**
+     * Sort keys clients may use, mapped to entity attributes. Only indexed columns are
+     * allowed so ordering never needs a sort over the whole matching set.
+     */
+    public static final Map<String, String> SORTABLE = Map.of(
+            "id", "id",
+            "dueDate", "dueDate",
+            "createdAt", "createdAt");
+
+    /**
+     * Default listing order: newest first.
+     */
+    public static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "id");
+
+    private List<TaskStatus> status;
+    private List<TaskPriority> priority;
+    private List<Long> assignedUserId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdAfter;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedAfter;
+
+    // Constructors
+    public TaskFilter() {
+    }
+
+    /**
+     * Filter on a single status, or no filter when the status is blank.
+     *
+     * @throws BadRequestException if the status is not a TaskStatus name
+     */
+    public static TaskFilter ofStatus(String status) {
+        TaskFilter filter = new TaskFilter();
+        if (status != null && !status.trim().isEmpty()) {
+            try {
+                filter.setStatus(List.of(TaskStatus.valueOf(status.trim())));
+            } catch (IllegalArgumentException ex) {
+                throw new BadRequestException("Unknown task status: " + status);
+            }
+        }
+        return filter;
+    }
+
+    /**
+     * Parse a sort parameter such as "dueDate", "dueDate,asc" or "createdAt,desc".
+     * Ties are broken by id in the same direction, so pages are stable and the order
+     * matches a (column, id) index scanned forwards or backwards.
+     *
+     * @param sort Sort parameter, or null/blank for DEFAULT_SORT
+     * @throws BadRequestException if the key is not in SORTABLE or the direction is invalid
+     */
+    public static Sort parseSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return DEFAULT_SORT;
+        }
+        String[] parts = sort.split(",");
+        String attribute = SORTABLE.get(parts[0].trim());
+        if (attribute == null || parts.length > 2) {
+            throw new BadRequestException("Unsupported sort: " + sort + " (allowed: " + SORTABLE.keySet() + ")");
+        }
+        Sort.Direction direction = Sort.Direction.ASC;
+        if (parts.length == 2) {
+            direction = Sort.Direction.fromOptionalString(parts[1].trim())
+                    .orElseThrow(() -> new BadRequestException("Unsupported sort direction: " + sort));
+        }
+        Sort order = Sort.by(direction, attribute);
+        return attribute.equals("id") ? order : order.and(Sort.by(direction, "id"));
+    }
+
+    /**
+     * True if no criteria are set.
+     */
+    public boolean isEmpty() {
+        return isEmpty(status) && !hasCriteriaBesidesStatus();
+    }
+
+    /**
+     * The single status this filter selects if that is its only criterion, otherwise null.
+     * Such filters are served by the cached status queries.
+     */
+    public TaskStatus getOnlyStatus() {
+        if (status == null || status.size() != 1 || hasCriteriaBesidesStatus()) {
+            return null;
+        }
+        return status.get(0);
+    }
+
+    private boolean hasCriteriaBesidesStatus() {
+        return !isEmpty(priority) || !isEmpty(assignedUserId)
+                || dueFrom != null || dueTo != null || createdAfter != null || updatedAfter != null;
+    }
+
+    private static boolean isEmpty(List<?> values) {
+        return values == null || values.isEmpty();
+    }
+
+    // Getters and Setters
+    public List<TaskStatus> getStatus() {
+        return status;
+    }
+
+    public void setStatus(List<TaskStatus> status) {
+        this.status = status;
+    }
+
+    public List<TaskPriority> getPriority() {
+        return priority;
+    }
+
+    public void setPriority(List<TaskPriority> priority) {
+        this.priority = priority;
+    }
+
+    public List<Long> getAssignedUserId() {
+        return assignedUserId;
+    }
+
+    public void setAssignedUserId(List<Long> assignedUserId) {
+        this.assignedUserId = assignedUserId;
+    }
+
+    public LocalDate getDueFrom() {
+        return dueFrom;
+    }
+
+    public void setDueFrom(LocalDate dueFrom) {
+        this.dueFrom = dueFrom;
+    }
+
+    public LocalDate getDueTo() {
+        return dueTo;
+    }
+
+    public void setDueTo(LocalDate dueTo) {
+        this.dueTo = dueTo;
+    }
+
+    public LocalDateTime getCreatedAfter() {
+        return createdAfter;
+    }
+
+    public void setCreatedAfter(LocalDateTime createdAfter) {
+        this.createdAfter = createdAfter;
+    }
+
+    public LocalDateTime getUpdatedAfter() {
+        return updatedAfter;
+    }
+
+    public void setUpdatedAfter(LocalDateTime updatedAfter) {
+        this.updatedAfter = updatedAfter;
+    }
+}
@@ -70,16 +70,21 @@ public class UserDTO {
         private String name;
         private String email;
         private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+        private Long version;
 
         // Constructors
         public UserResponseDTO() {
         }
 
-        public UserResponseDTO(Long id, String name, String email, LocalDateTime createdAt) {
+        public UserResponseDTO(Long id, String name, String email, LocalDateTime createdAt, LocalDateTime updatedAt,
+                               Long version) {
             this.id = id;
             this.name = name;
             this.email = email;
             this.createdAt = createdAt;
+            this.updatedAt = updatedAt;
+            this.version = version;
         }
 
         // Getters and Setters
@@ -115,6 +120,22 @@ public class UserDTO {
             this.createdAt = createdAt;
         }
 
+        public LocalDateTime getUpdatedAt() {
+            return updatedAt;
+        }
+
+        public void setUpdatedAt(LocalDateTime updatedAt) {
+            this.updatedAt = updatedAt;
+        }
+
+        public Long getVersion() {
+            return version;
+        }
+
+        public void setVersion(Long version) {
+            this.version = version;
+        }
+
         /**
          * Convert Entity to DTO.
          * Used when returning user data in API responses.
@@ -124,8 +145,141 @@ public class UserDTO {
                     user.getId(),
                     user.getName(),
                     user.getEmail(),
-                    user.getCreatedAt()
+                    user.getCreatedAt(),
+                    user.getUpdatedAt(),
+                    user.getVersion()
             );
         }
     }
+
+    /**
+     * DTO for typeahead suggestions.
+     * Only what a user picker needs to render an option.
+     */
+    public static class UserSuggestionDTO {
+        private Long id;
+        private String name;
+
+        // Constructors
+        public UserSuggestionDTO() {
+        }
+
+        public UserSuggestionDTO(Long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        // Getters and Setters
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * DTO for reporting a background user purge (DELETE /api/users/{id}?async=true).
+     * A snapshot: poll GET /api/users/{id}/purge for the latest state.
+     */
+    public static class PurgeProgressDTO {
+
+        public enum State {
+            RUNNING, DONE, FAILED
+        }
+
+        private Long userId;
+        private State state;
+        private long totalTasks;
+        private long deletedTasks;
+        private LocalDateTime startedAt;
+        private LocalDateTime finishedAt;
+        private String error;
+
+        // Constructors
+        public PurgeProgressDTO() {
+        }
+
+        public PurgeProgressDTO(Long userId,
+                                State state,
+                                long totalTasks,
+                                long deletedTasks,
+                                LocalDateTime startedAt,
+                                LocalDateTime finishedAt,
+                                String error) {
+            this.userId = userId;
+            this.state = state;
+            this.totalTasks = totalTasks;
+            this.deletedTasks = deletedTasks;
+            this.startedAt = startedAt;
+            this.finishedAt = finishedAt;
+            this.error = error;
+        }
+
+        // Getters and Setters
+        public Long getUserId() {
+            return userId;
+        }
+
+        public void setUserId(Long userId) {
+            this.userId = userId;
+        }
+
+        public State getState() {
+            return state;
+        }
+
+        public void setState(State state) {
+            this.state = state;
+        }
+
+        public long getTotalTasks() {
+            return totalTasks;
+        }
+
+        public void setTotalTasks(long totalTasks) {
+            this.totalTasks = totalTasks;
+        }
+
+        public long getDeletedTasks() {
+            return deletedTasks;
+        }
+
+        public void setDeletedTasks(long deletedTasks) {
+            this.deletedTasks = deletedTasks;
+        }
+
+        public LocalDateTime getStartedAt() {
+            return startedAt;
+        }
+
+        public void setStartedAt(LocalDateTime startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        public LocalDateTime getFinishedAt() {
+            return finishedAt;
+        }
+
+        public void setFinishedAt(LocalDateTime finishedAt) {
+            this.finishedAt = finishedAt;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public void setError(String error) {
+            this.error = error;
+        }
+    }
 }
@@ -0,0 +1,47 @@
+package uiowa.ais.interview.task;
+
+import org.springframework.data.domain.Pageable;
+import uiowa.ais.interview.entity.TaskStatus;
+import uiowa.ais.interview.entity.User;
+import uiowa.ais.interview.task.TaskDTO.TaskResponseDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Dynamic multi-criteria task queries, mixed into TaskRepository.
+ * Implemented with the Criteria API in TaskFilterRepositoryImpl.
+ */
+public interface TaskFilterRepository {
+
+    /**
+     * Read-only projection of the tasks matching every criterion of the filter.
+     * Runs as one SELECT joining the assignee, with the criteria in the WHERE clause.
+     *
+     * @param filter   Criteria to apply (empty fields are ignored)
+     * @param beforeId Keyset cursor: only tasks with a lower ID (null for no cursor)
+     * @param pageable Offset, page size and sort (unsorted means newest first)
+     */
+    List<TaskResponseDTO> findResponses(TaskFilter filter, Long beforeId, Pageable pageable);
+
+    /**
+     * Number of tasks matching the filter. Does not join users.
+     */
+    long countMatching(TaskFilter filter);
+
+    /**
+     * Move every task matching the filter to a status in one set-based UPDATE, skipping
+     * tasks already in it. Bumps version and updatedAt like an entity update would.
+     *
+     * @return Number of tasks changed
+     */
+    int updateStatusMatching(TaskFilter filter, TaskStatus status, LocalDateTime updatedAt);
+
+    /**
+     * Assign every task matching the filter to a user in one set-based UPDATE, skipping
+     * tasks already assigned to them. Bumps version and updatedAt like an entity update would.
+     *
+     * @return Number of tasks changed
+     */
+    int reassignMatching(TaskFilter filter, User user, LocalDateTime updatedAt);
+}
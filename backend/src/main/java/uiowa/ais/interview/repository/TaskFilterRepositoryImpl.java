@@ -0,0 +1,135 @@
+package uiowa.ais.interview.task;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import uiowa.ais.interview.entity.Task;
+import uiowa.ais.interview.entity.TaskStatus;
+import uiowa.ais.interview.entity.User;
+import uiowa.ais.interview.task.TaskDTO.TaskResponseDTO;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria API implementation of TaskFilterRepository.
+ *
+ * Only the criteria that are set become predicates, so each combination compiles to
+ * the narrowest WHERE clause and the database can pick the matching index
+ * (see V2 and V5 migrations). Rows are projected into TaskResponseDTO like the
+ * static queries in TaskRepository; bulk updates reuse the same predicates.
+ */
+class TaskFilterRepositoryImpl implements TaskFilterRepository {
+
+    private final EntityManager entityManager;
+
+    TaskFilterRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<TaskResponseDTO> findResponses(TaskFilter filter, Long beforeId, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskResponseDTO> query = cb.createQuery(TaskResponseDTO.class);
+        Root<Task> t = query.from(Task.class);
+        Join<Task, User> u = t.join("user");
+
+        // Same columns as TaskRepository.RESPONSE_COLUMNS
+        query.select(cb.construct(TaskResponseDTO.class,
+                t.get("id"), t.get("title"), t.get("description"), t.get("status"), t.get("priority"),
+                t.get("dueDate"), u.get("id"), u.get("name"), u.get("email"), u.get("createdAt"),
+                u.get("updatedAt"), u.get("version"), t.get("createdAt"), t.get("updatedAt"), t.get("version")));
+
+        List<Predicate> predicates = predicates(cb, t, filter);
+        if (beforeId != null) {
+            predicates.add(cb.lessThan(t.get("id"), beforeId));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+
+        Sort sort = pageable.getSort().isSorted() ? pageable.getSort() : TaskFilter.DEFAULT_SORT;
+        query.orderBy(QueryUtils.toOrders(sort, t, cb));
+
+        TypedQuery<TaskResponseDTO> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return typedQuery.getResultList();
+    }
+
+    @Override
+    public long countMatching(TaskFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> t = query.from(Task.class);
+        query.select(cb.count(t.get("id")));
+        query.where(predicates(cb, t, filter).toArray(Predicate[]::new));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public int updateStatusMatching(TaskFilter filter, TaskStatus status, LocalDateTime updatedAt) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+        Root<Task> t = update.from(Task.class);
+        update.set(t.<TaskStatus>get("status"), status);
+        update.set(t.<LocalDateTime>get("updatedAt"), updatedAt);
+        update.set(t.<Long>get("version"), cb.sum(t.<Long>get("version"), 1L));
+
+        List<Predicate> predicates = predicates(cb, t, filter);
+        predicates.add(cb.notEqual(t.get("status"), status));
+        update.where(predicates.toArray(Predicate[]::new));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    public int reassignMatching(TaskFilter filter, User user, LocalDateTime updatedAt) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+        Root<Task> t = update.from(Task.class);
+        update.set(t.<User>get("user"), user);
+        update.set(t.<LocalDateTime>get("updatedAt"), updatedAt);
+        update.set(t.<Long>get("version"), cb.sum(t.<Long>get("version"), 1L));
+
+        List<Predicate> predicates = predicates(cb, t, filter);
+        predicates.add(cb.notEqual(t.get("user").get("id"), user.getId()));
+        update.where(predicates.toArray(Predicate[]::new));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    private static List<Predicate> predicates(CriteriaBuilder cb, Root<Task> t, TaskFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.getStatus() != null && !filter.getStatus().isEmpty()) {
+            predicates.add(t.get("status").in(filter.getStatus()));
+        }
+        if (filter.getPriority() != null && !filter.getPriority().isEmpty()) {
+            predicates.add(t.get("priority").in(filter.getPriority()));
+        }
+        if (filter.getAssignedUserId() != null && !filter.getAssignedUserId().isEmpty()) {
+            // Compares the user_id foreign key; no join needed
+            predicates.add(t.get("user").get("id").in(filter.getAssignedUserId()));
+        }
+        if (filter.getDueFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(t.get("dueDate"), filter.getDueFrom()));
+        }
+        if (filter.getDueTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(t.get("dueDate"), filter.getDueTo()));
+        }
+        if (filter.getCreatedAfter() != null) {
+            predicates.add(cb.greaterThan(t.get("createdAt"), filter.getCreatedAfter()));
+        }
+        if (filter.getUpdatedAfter() != null) {
+            predicates.add(cb.greaterThan(t.get("updatedAt"), filter.getUpdatedAfter()));
+        }
+        return predicates;
+    }
+}
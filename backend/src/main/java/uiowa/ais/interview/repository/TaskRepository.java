@@ -1,30 +1,240 @@
 package uiowa.ais.interview.task;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import uiowa.ais.interview.entity.Task;
 import uiowa.ais.interview.entity.TaskStatus;
+import uiowa.ais.interview.entity.User;
+import uiowa.ais.interview.task.TaskDTO.TaskResponseDTO;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskFilterRepository, TaskWriteRepository {
+
+    /**
+     * Constructor expression shared by the projection queries below.
+     * Aliases: t = Task, u = its assigned User.
+     */
+    String RESPONSE_COLUMNS = "new uiowa.ais.interview.task.TaskDTO$TaskResponseDTO("
+            + "t.id, t.title, t.description, t.status, t.priority, t.dueDate, "
+            + "u.id, u.name, u.email, u.createdAt, u.updatedAt, u.version, t.createdAt, t.updatedAt, t.version)";
 
     /**
      * Find all tasks with pagination support.
-     * This is the default method provided by JpaRepository.
+     * Overrides the JpaRepository default so the assigned user is fetched in the same
+     * SELECT (one query per page instead of one extra query per task).
+     * The count query does not join users, so computing totals stays cheap.
      */
+    @Override
+    @EntityGraph(attributePaths = "user")
+    @Query(value = "SELECT t FROM Task t",
+           countQuery = "SELECT COUNT(t.id) FROM Task t")
     Page<Task> findAll(Pageable pageable);
 
     /**
      * Find tasks by status with pagination.
-     * This demonstrates how to create a custom query method for filtering.
+     * Like findAll, the assigned user is fetched together with the tasks and the
+     * count query only touches the tasks table. Results are kept in the query cache
+     * until the tasks table changes.
      *
      * Example usage:
      * - findByStatus(TaskStatus.TODO, pageable) will find tasks with TaskStatus TODO.
      */
-    Page<Task> findByStatus(TaskStatus status, Pageable pageable);
+    @EntityGraph(attributePaths = "user")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(value = "SELECT t FROM Task t WHERE t.status = :status",
+           countQuery = "SELECT COUNT(t.id) FROM Task t WHERE t.status = :status")
+    Page<Task> findByStatus(@Param("status") TaskStatus status, Pageable pageable);
+
+    /**
+     * Read-only projection of a task page straight into response DTOs.
+     * The constructor expression selects the task and assignee columns in one joined row,
+     * so no Task or User entities are created, tracked, or put in the persistence context.
+     * Returns a Slice (no count query); totals come from EntityCounters.
+     */
+    @Query("SELECT " + RESPONSE_COLUMNS + " FROM Task t JOIN t.user u")
+    Slice<TaskResponseDTO> findAllResponses(Pageable pageable);
+
+    /**
+     * Read-only projection of a task page filtered by status.
+     * Cached in the query cache; any write to the tasks table invalidates it.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT " + RESPONSE_COLUMNS + " FROM Task t JOIN t.user u WHERE t.status = :status")
+    Slice<TaskResponseDTO> findResponsesByStatus(@Param("status") TaskStatus status, Pageable pageable);
+
+    /**
+     * Keyset (seek) pagination: tasks with an ID lower than the cursor, newest first.
+     * The database seeks straight to the cursor instead of skipping page * size rows,
+     * and no count query is issued. Pass PageRequest.ofSize(n) to limit the rows.
+     * Results are projected into DTOs like findAllResponses.
+     */
+    @Query("SELECT " + RESPONSE_COLUMNS + " FROM Task t JOIN t.user u WHERE t.id < :cursor ORDER BY t.id DESC")
+    List<TaskResponseDTO> findPageBefore(@Param("cursor") Long cursor, Pageable pageable);
+
+    /**
+     * Keyset pagination filtered by status.
+     */
+    @Query("SELECT " + RESPONSE_COLUMNS + " FROM Task t JOIN t.user u"
+            + " WHERE t.status = :status AND t.id < :cursor ORDER BY t.id DESC")
+    List<TaskResponseDTO> findPageByStatusBefore(@Param("status") TaskStatus status,
+                                                 @Param("cursor") Long cursor,
+                                                 Pageable pageable);
+
+    /**
+     * Read-only projection of the tasks with the given IDs (in no particular order).
+     * Used to load search hits.
+     */
+    @Query("SELECT " + RESPONSE_COLUMNS + " FROM Task t JOIN t.user u WHERE t.id IN :ids")
+    List<TaskResponseDTO> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Forward-only stream of every task, oldest first, for exports.
+     * Rows are projected into DTOs, so nothing accumulates in the persistence context,
+     * and the fetch size keeps the driver from buffering the whole result.
+     * Must be consumed inside a transaction and closed (try-with-resources).
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT " + RESPONSE_COLUMNS + " FROM Task t JOIN t.user u ORDER BY t.id")
+    Stream<TaskResponseDTO> streamAllResponses();
+
+    /**
+     * Number of tasks per status, used to rebuild the in-memory counters.
+     */
+    @Query("SELECT t.status AS status, COUNT(t.id) AS total FROM Task t GROUP BY t.status")
+    List<StatusCount> countGroupByStatus();
+
+    /**
+     * Number of tasks per assigned user, used to rebuild the in-memory counters.
+     */
+    @Query("SELECT t.user.id AS userId, COUNT(t.id) AS total FROM Task t GROUP BY t.user.id")
+    List<UserCount> countGroupByUser();
+
+    /**
+     * Current status and version of a task, and its assignee's ID and version, without
+     * loading the Task or User entity. Used to explain why a write matched no row.
+     */
+    @Query("SELECT t.status AS status, t.version AS version, u.id AS userId, u.version AS userVersion"
+            + " FROM Task t JOIN t.user u WHERE t.id = :id")
+    Optional<TaskState> findStateById(@Param("id") Long id);
+
+    /**
+     * Move the given tasks to a status in one UPDATE, skipping tasks already in it.
+     * Bumps version and updatedAt like an entity update would.
+     *
+     * @return Number of tasks changed
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :updatedAt, t.version = t.version + 1"
+            + " WHERE t.id IN :ids AND t.status <> :status")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("status") TaskStatus status,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Assign the given tasks to a user in one UPDATE, skipping tasks already assigned to them.
+     * Bumps version and updatedAt like an entity update would.
+     *
+     * @return Number of tasks changed
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.user = :user, t.updatedAt = :updatedAt, t.version = t.version + 1"
+            + " WHERE t.id IN :ids AND t.user <> :user")
+    int reassignByIdIn(@Param("ids") Collection<Long> ids,
+                       @Param("user") User user,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * The searchable fields of a user's tasks last written at updatedAt, lowest ID first
+     * after the cursor. Used to re-index, a page at a time, the tasks a bulk
+     * reassignment moved. Pass PageRequest.ofSize(n) to limit the rows.
+     */
+    @Query("SELECT t.id AS id, t.title AS title, t.description AS description FROM Task t"
+            + " WHERE t.user.id = :userId AND t.updatedAt = :updatedAt AND t.id > :afterId ORDER BY t.id")
+    List<IndexEntry> findIndexEntries(@Param("userId") Long userId,
+                                      @Param("updatedAt") LocalDateTime updatedAt,
+                                      @Param("afterId") Long afterId,
+                                      Pageable pageable);
+
+    /**
+     * Delete all of a user's tasks with one DELETE, however many there are.
+     *
+     * @return Number of tasks deleted
+     */
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * IDs of a user's tasks, lowest first. Pass PageRequest.of(0, n) to take a chunk.
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.user.id = :userId ORDER BY t.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Delete the tasks with the given IDs with one DELETE.
+     *
+     * @return Number of tasks deleted
+     */
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Projection for findStateById and the TaskWriteRepository methods.
+     */
+    interface TaskState {
+        TaskStatus getStatus();
+
+        Long getVersion();
+
+        Long getUserId();
+
+        Long getUserVersion();
+    }
+
+    /**
+     * Projection for findIndexEntries.
+     */
+    interface IndexEntry {
+        Long getId();
+
+        String getTitle();
+
+        String getDescription();
+    }
+
+    /**
+     * Projection for countGroupByStatus.
+     */
+    interface StatusCount {
+        TaskStatus getStatus();
+
+        long getTotal();
+    }
+
+    /**
+     * Projection for countGroupByUser.
+     */
+    interface UserCount {
+        Long getUserId();
+
+        long getTotal();
+    }
 
 }
@@ -0,0 +1,71 @@
+package uiowa.ais.interview.task;
+
+import uiowa.ais.interview.entity.TaskStatus;
+import uiowa.ais.interview.task.TaskDTO.CreateTaskDTO;
+import uiowa.ais.interview.task.TaskDTO.TaskResponseDTO;
+import uiowa.ais.interview.task.TaskRepository.TaskState;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Version-guarded writes for the hot task paths, mixed into TaskRepository.
+ * Implemented in TaskWriteRepositoryImpl.
+ *
+ * Each method changes one task by primary key and returns what the task looked like
+ * before, without loading the Task or User entity. An empty result means nothing was
+ * written: the task does not exist, or (when versions are given) it no longer has them.
+ * Callers decide which by reading the task only on that failure path.
+ */
+public interface TaskWriteRepository {
+
+    /**
+     * Delete a task.
+     *
+     * @return Status, version and assignee (with the assignee's version) the task had
+     */
+    Optional<TaskState> deleteTaskById(Long id);
+
+    /**
+     * Change only the status, bumping version and updatedAt.
+     *
+     * @param version     Version the task must have, or null for no check
+     * @param userVersion Version its assignee must have, or null for no check
+     * @return Status, version and assignee the task had before the update
+     */
+    Optional<TaskState> updateStatusById(Long id, TaskStatus status, LocalDateTime updatedAt,
+                                         Long version, Long userVersion);
+
+    /**
+     * Replace every field of a task, bumping version and updatedAt.
+     * An assignee that does not exist fails the foreign key
+     * (DataIntegrityViolationException).
+     *
+     * @param version     Version the task must have, or null for no check
+     * @param userVersion Version its current assignee must have, or null for no check
+     * @return The task's previous state and its new representation
+     */
+    Optional<TaskUpdate> updateTaskById(Long id, CreateTaskDTO dto, LocalDateTime updatedAt,
+                                        Long version, Long userVersion);
+
+    /**
+     * Result of updateTaskById.
+     */
+    final class TaskUpdate {
+        private final TaskState previous;
+        private final TaskResponseDTO updated;
+
+        public TaskUpdate(TaskState previous, TaskResponseDTO updated) {
+            this.previous = previous;
+            this.updated = updated;
+        }
+
+        public TaskState getPrevious() {
+            return previous;
+        }
+
+        public TaskResponseDTO getUpdated() {
+            return updated;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package uiowa.ais.interview.task;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import uiowa.ais.interview.entity.TaskStatus;
+import uiowa.ais.interview.entity.User;
+import uiowa.ais.interview.task.TaskDTO.CreateTaskDTO;
+import uiowa.ais.interview.task.TaskDTO.TaskResponseDTO;
+import uiowa.ais.interview.task.TaskRepository.TaskState;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * JPQL implementation of TaskWriteRepository, so it runs on every storage profile.
+ *
+ * Each write reads the task's state, then runs an UPDATE or DELETE guarded by the
+ * versions it read (WHERE id = :id AND version = :version, plus the assignee's version).
+ * The state returned is therefore exactly the one the write replaced. Versions from
+ * If-Match must equal the ones read; without them a write that lost a race to another
+ * writer is retried on the new state.
+ *
+ * The statements are bulk JPQL, so Hibernate evicts the task region and the cached
+ * queries over tasks itself, as for the other @Modifying queries. The persistence
+ * context is not touched.
+ */
+class TaskWriteRepositoryImpl implements TaskWriteRepository {
+
+    private static final String GUARD = " WHERE t.id = :id AND t.version = :version"
+            + " AND EXISTS (SELECT 1 FROM User u WHERE u = t.user AND u.version = :userVersion)";
+
+    private final EntityManager entityManager;
+
+    TaskWriteRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<TaskState> deleteTaskById(Long id) {
+        return writeGuarded(id, null, null, previous -> entityManager.createQuery("DELETE FROM Task t" + GUARD));
+    }
+
+    @Override
+    public Optional<TaskState> updateStatusById(Long id, TaskStatus status, LocalDateTime updatedAt,
+                                                Long version, Long userVersion) {
+        return writeGuarded(id, version, userVersion, previous -> entityManager.createQuery(
+                        "UPDATE Task t SET t.status = :status, t.updatedAt = :updatedAt, t.version = t.version + 1" + GUARD)
+                .setParameter("status", status)
+                .setParameter("updatedAt", updatedAt));
+    }
+
+    @Override
+    public Optional<TaskUpdate> updateTaskById(Long id, CreateTaskDTO dto, LocalDateTime updatedAt,
+                                               Long version, Long userVersion) {
+        // A reference is enough for the foreign key; an unknown assignee fails it
+        User user = entityManager.getReference(User.class, dto.getAssignedUserId());
+        Optional<TaskState> previous = writeGuarded(id, version, userVersion, state -> entityManager.createQuery(
+                        "UPDATE Task t SET t.title = :title, t.description = :description, t.status = :status,"
+                                + " t.priority = :priority, t.dueDate = :dueDate, t.user = :user,"
+                                + " t.updatedAt = :updatedAt, t.version = t.version + 1" + GUARD)
+                .setParameter("title", dto.getTitle())
+                .setParameter("description", dto.getDescription())
+                .setParameter("status", dto.getStatus())
+                .setParameter("priority", dto.getPriority())
+                .setParameter("dueDate", dto.getDueDate())
+                .setParameter("user", user)
+                .setParameter("updatedAt", updatedAt));
+        if (previous.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // Read back the new row with its assignee for the response
+        TaskResponseDTO updated = entityManager.createQuery("SELECT " + TaskRepository.RESPONSE_COLUMNS
+                        + " FROM Task t JOIN t.user u WHERE t.id = :id", TaskResponseDTO.class)
+                .setParameter("id", id)
+                .getSingleResult();
+        return Optional.of(new TaskUpdate(previous.get(), updated));
+    }
+
+    /**
+     * Read the task's state and run the write built from it, guarded by the versions read.
+     *
+     * @param version     Version the task must have, or null for no check
+     * @param userVersion Version its assignee must have, or null for no check
+     * @return The state the write replaced; empty if the task does not exist, does not
+     *         have the given versions, or (with versions given) changed before the write
+     */
+    private Optional<TaskState> writeGuarded(Long id, Long version, Long userVersion,
+                                             Function<TaskState, Query> write) {
+        while (true) {
+            Optional<TaskState> previous = findState(id);
+            if (previous.isEmpty()
+                    || (version != null && !version.equals(previous.get().getVersion()))
+                    || (userVersion != null && !userVersion.equals(previous.get().getUserVersion()))) {
+                return Optional.empty();
+            }
+            int changed = write.apply(previous.get())
+                    .setParameter("id", id)
+                    .setParameter("version", previous.get().getVersion())
+                    .setParameter("userVersion", previous.get().getUserVersion())
+                    .executeUpdate();
+            if (changed > 0) {
+                return previous;
+            }
+            if (version != null || userVersion != null) {
+                return Optional.empty();
+            }
+            // Changed (or deleted) between the read and the write: read it again
+        }
+    }
+
+    private Optional<TaskState> findState(Long id) {
+        List<Object[]> rows = entityManager.createQuery("SELECT t.status, t.version, u.id, u.version"
+                        + " FROM Task t JOIN t.user u WHERE t.id = :id", Object[].class)
+                .setParameter("id", id)
+                .getResultList();
+        return rows.isEmpty() ? Optional.empty() : Optional.of(toState(rows.get(0)));
+    }
+
+    private static TaskState toState(Object[] row) {
+        TaskStatus status = (TaskStatus) row[0];
+        Long version = (Long) row[1];
+        Long userId = (Long) row[2];
+        Long userVersion = (Long) row[3];
+        return new TaskState() {
+            @Override
+            public TaskStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Long getUserVersion() {
+                return userVersion;
+            }
+        };
+    }
+}
@@ -2,15 +2,32 @@ package uiowa.ais.interview.user;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import uiowa.ais.interview.entity.User;
+import uiowa.ais.interview.user.UserDTO.UserResponseDTO;
+
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    /**
+     * Constructor expression shared by the projection queries below (alias u = User).
+     */
+    String RESPONSE_COLUMNS = "new uiowa.ais.interview.user.UserDTO$UserResponseDTO("
+            + "u.id, u.name, u.email, u.createdAt, u.updatedAt, u.version)";
+
+    /**
+     * Name filter shared by the projection queries below.
+     */
+    String NAME_MATCHES = "LOWER(u.name) LIKE LOWER(CONCAT('%', :name, '%'))";
+
     /**
      * Find all users with pagination support.
      * This is the default method provided by JpaRepository.
@@ -33,4 +50,58 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     // @Query("SELECT u FROM User u WHERE LOWER(u.name) LIKE LOWER(CONCAT('%', :name, '%'))")
     // Page<User> searchByName(@Param("name") String name, Pageable pageable);
+
+    /**
+     * Read-only projection of a user page straight into response DTOs.
+     * No User entities are created or tracked by the persistence context.
+     * Returns a Slice (no count query); the total comes from EntityCounters.
+     */
+    @Query("SELECT " + RESPONSE_COLUMNS + " FROM User u")
+    Slice<UserResponseDTO> findAllResponses(Pageable pageable);
+
+    /**
+     * Read-only projection of a user page filtered by name (case-insensitive partial match).
+     */
+    @Query(value = "SELECT " + RESPONSE_COLUMNS + " FROM User u WHERE " + NAME_MATCHES,
+           countQuery = "SELECT COUNT(u.id) FROM User u WHERE " + NAME_MATCHES)
+    Page<UserResponseDTO> findResponsesByName(@Param("name") String name, Pageable pageable);
+
+    /**
+     * Keyset (seek) pagination: users with an ID lower than the cursor, newest first.
+     * No count query is issued. Pass PageRequest.ofSize(n) to limit the rows.
+     */
+    @Query("SELECT " + RESPONSE_COLUMNS + " FROM User u WHERE u.id < :cursor ORDER BY u.id DESC")
+    List<UserResponseDTO> findPageBefore(@Param("cursor") Long cursor, Pageable pageable);
+
+    /**
+     * Keyset pagination filtered by name (case-insensitive partial match).
+     */
+    @Query("SELECT " + RESPONSE_COLUMNS + " FROM User u WHERE " + NAME_MATCHES
+            + " AND u.id < :cursor ORDER BY u.id DESC")
+    List<UserResponseDTO> findPageByNameBefore(@Param("name") String name,
+                                               @Param("cursor") Long cursor,
+                                               Pageable pageable);
+
+    /**
+     * Read-only projection of the users with the given IDs (in no particular order).
+     * Used to load name index matches.
+     */
+    @Query("SELECT " + RESPONSE_COLUMNS + " FROM User u WHERE u.id IN :ids")
+    List<UserResponseDTO> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Every user as a response DTO. Used to load the in-memory name index at startup.
+     */
+    @Query("SELECT " + RESPONSE_COLUMNS + " FROM User u")
+    List<UserResponseDTO> findAllResponses();
+
+    /**
+     * Delete a user with one DELETE, without loading it (so nothing cascades).
+     * Their tasks must be deleted first (see TaskRepository.deleteByUserId).
+     *
+     * @return Number of users deleted (0 if the ID does not exist)
+     */
+    @Modifying
+    @Query("DELETE FROM User u WHERE u.id = :id")
+    int deleteUserById(@Param("id") Long id);
 }
@@ -0,0 +1,102 @@
+package uiowa.ais.interview.routing;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread read-your-writes state for the current HTTP request.
+ *
+ * ReadYourWritesFilter opens a scope per request, pinned to the primary when the client
+ * wrote recently. ReplicaRoutingDataSource asks isPinned() before sending a read-only
+ * transaction to a replica, and calls recordWrite() when a read-write transaction runs,
+ * which pins the rest of the request and lets the filter tell the client. Threads with
+ * no scope (startup, @Async and @Scheduled work) are never pinned, except inside onPrimary().
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    /**
+     * Start a scope on this thread.
+     *
+     * @param pinned  Whether reads must go to the primary from the start
+     * @param onWrite Run once, on the first write in the scope
+     */
+    static void begin(boolean pinned, Runnable onWrite) {
+        CURRENT.set(new Scope(pinned, onWrite));
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Whether read-only transactions on this thread must use the primary.
+     */
+    public static boolean isPinned() {
+        Scope scope = CURRENT.get();
+        return scope != null && scope.pinned;
+    }
+
+    /**
+     * Whether this request's read-only transactions go to a replica: it runs in a scope
+     * that is not pinned. Always false when no replicas are configured, since then no
+     * scopes are opened.
+     */
+    public static boolean readsFromReplicas() {
+        Scope scope = CURRENT.get();
+        return scope != null && !scope.pinned;
+    }
+
+    /**
+     * Run work with this thread's read-only transactions on the primary, for reads that
+     * fill a shared cache or index and so must not trail what has been committed.
+     * Only transactions that have not run a statement yet are affected.
+     *
+     * @param work Work to run
+     * @return Its result
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            begin(true, () -> { });
+            try {
+                return work.get();
+            } finally {
+                end();
+            }
+        }
+        boolean pinned = scope.pinned;
+        scope.pinned = true;
+        try {
+            return work.get();
+        } finally {
+            scope.pinned = pinned || scope.wrote;
+        }
+    }
+
+    /**
+     * Note that this thread is writing to the primary.
+     */
+    public static void recordWrite() {
+        Scope scope = CURRENT.get();
+        if (scope != null && !scope.wrote) {
+            scope.wrote = true;
+            scope.pinned = true;
+            scope.onWrite.run();
+        }
+    }
+
+    private static final class Scope {
+        private final Runnable onWrite;
+        private boolean pinned;
+        private boolean wrote;
+
+        private Scope(boolean pinned, Runnable onWrite) {
+            this.pinned = pinned;
+            this.onWrite = onWrite;
+        }
+    }
+}
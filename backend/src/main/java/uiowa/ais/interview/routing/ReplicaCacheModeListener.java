@@ -0,0 +1,39 @@
+package uiowa.ais.interview.routing;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps replica reads out of Hibernate's second-level and query caches.
+ *
+ * A transaction that ReplicaRoutingDataSource will send to a replica may read rows older
+ * than the primary's; cached, they would be served to every client, including ones that
+ * must read their own writes. Such transactions get CacheMode.GET: they still read the
+ * caches, but only primary reads fill them. The cache mode has to be set when the
+ * transaction begins, before Hibernate runs (and decides to cache) its first query.
+ * Registered by ReplicaDataSourceConfig; Spring Boot adds it to the transaction manager.
+ */
+public class ReplicaCacheModeListener implements TransactionExecutionListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public ReplicaCacheModeListener(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure != null || !transaction.isNewTransaction()
+                || !transaction.isReadOnly() || ReadYourWrites.isPinned()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.getResource(entityManagerFactory) instanceof EntityManagerHolder holder) {
+            holder.getEntityManager().unwrap(Session.class).setCacheMode(CacheMode.GET);
+        }
+    }
+}
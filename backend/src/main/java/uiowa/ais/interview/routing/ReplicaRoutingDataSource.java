@@ -0,0 +1,81 @@
+package uiowa.ais.interview.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to the replicas (round robin) and everything else to
+ * the primary.
+ *
+ * The choice needs the transaction's readOnly flag, which Spring only exposes after the
+ * transaction has begun, so the physical connection is fetched lazily on the first
+ * statement (LazyConnectionDataSourceProxy). Read-only transactions stay on the primary
+ * while ReadYourWrites pins the thread, and read-write transactions pin it. Work outside
+ * a transaction (Flyway, plain JdbcTemplate calls) uses the primary.
+ *
+ * Replica reads may trail the primary by the replication lag, so they never fill the
+ * shared caches (see ReplicaDataSourceConfig), and the in-memory counters are always
+ * recounted on the primary (see EntityCounters).
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas) {
+        super(new Router(primary, replicas));
+        pools.add(primary);
+        pools.addAll(replicas);
+    }
+
+    /**
+     * Close the primary and replica pools.
+     */
+    @Override
+    public void close() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    private static final class Router extends AbstractRoutingDataSource {
+        private static final String PRIMARY = "primary";
+
+        private final List<String> replicaKeys = new ArrayList<>();
+        private final AtomicInteger next = new AtomicInteger();
+
+        private Router(HikariDataSource primary, List<HikariDataSource> replicas) {
+            Map<Object, Object> targets = new HashMap<>();
+            targets.put(PRIMARY, primary);
+            for (int i = 0; i < replicas.size(); i++) {
+                String key = "replica-" + (i + 1);
+                targets.put(key, replicas.get(i));
+                replicaKeys.add(key);
+            }
+            setTargetDataSources(targets);
+            setDefaultTargetDataSource(primary);
+            afterPropertiesSet();
+        }
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                return PRIMARY;
+            }
+            if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                ReadYourWrites.recordWrite();
+                return PRIMARY;
+            }
+            if (ReadYourWrites.isPinned()) {
+                return PRIMARY;
+            }
+            return replicaKeys.get(Math.floorMod(next.getAndIncrement(), replicaKeys.size()));
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package uiowa.ais.interview.task;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uiowa.ais.interview.task.TaskDTO.TaskResponseDTO;
+import uiowa.ais.interview.user.UserDTO.UserResponseDTO;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/**
+ * Writes all tasks to an output stream as NDJSON or CSV.
+ *
+ * Rows come from a forward-only database stream and are written one at a time,
+ * so heap use stays constant no matter how many tasks exist. Callers must invoke
+ * the export methods through the Spring proxy so the stream runs inside a
+ * read-only transaction.
+ */
+@Service
+public class TaskExporter {
+
+    private static final String CSV_HEADER =
+            "id,title,description,status,priority,dueDate,assignedUserId,assignedUserName,createdAt";
+
+    private final TaskRepository taskRepository;
+    private final ObjectWriter jsonWriter;
+
+    public TaskExporter(TaskRepository taskRepository, ObjectMapper objectMapper) {
+        this.taskRepository = taskRepository;
+        this.jsonWriter = objectMapper.writerFor(TaskResponseDTO.class);
+    }
+
+    /**
+     * Write every task as one JSON object per line (same shape as GET /api/tasks/{id}).
+     *
+     * @param out Destination (not closed)
+     */
+    @Transactional(readOnly = true)
+    public void writeNdjson(OutputStream out) throws IOException {
+        Writer writer = newWriter(out);
+        try (Stream<TaskResponseDTO> tasks = taskRepository.streamAllResponses()) {
+            tasks.forEach(task -> {
+                try {
+                    writer.write(jsonWriter.writeValueAsString(task));
+                    writer.write('\n');
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        writer.flush();
+    }
+
+    /**
+     * Write every task as CSV with a header row.
+     *
+     * @param out Destination (not closed)
+     */
+    @Transactional(readOnly = true)
+    public void writeCsv(OutputStream out) throws IOException {
+        Writer writer = newWriter(out);
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        try (Stream<TaskResponseDTO> tasks = taskRepository.streamAllResponses()) {
+            tasks.forEach(task -> {
+                try {
+                    writeCsvRow(writer, task);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        writer.flush();
+    }
+
+    private static Writer newWriter(OutputStream out) {
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    private static void writeCsvRow(Writer writer, TaskResponseDTO task) throws IOException {
+        UserResponseDTO user = task.getAssignedUser();
+        writer.write(String.join(",",
+                String.valueOf(task.getId()),
+                csvField(task.getTitle()),
+                csvField(task.getDescription()),
+                csvField(task.getStatus()),
+                csvField(task.getPriority()),
+                csvField(task.getDueDate()),
+                csvField(user != null ? user.getId() : null),
+                csvField(user != null ? user.getName() : null),
+                csvField(task.getCreatedAt())));
+        writer.write('\n');
+    }
+
+    /**
+     * Quote a value if it contains a separator, quote or line break (RFC 4180).
+     */
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,459 @@
+package uiowa.ais.interview.task;
+
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import uiowa.ais.interview.counter.AfterCommit;
+import uiowa.ais.interview.exception.BadRequestException;
+import uiowa.ais.interview.routing.ReadYourWrites;
+import uiowa.ais.interview.task.TaskDTO.TaskResponseDTO;
+import uiowa.ais.interview.task.TaskRepository.IndexEntry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Lucene full-text index over task titles and descriptions.
+ *
+ * TaskService reports every create/update/delete, and the index applies the change once
+ * the surrounding transaction commits. Searches see changes immediately (near-real-time
+ * readers); the index is committed to disk every app.search.commit-interval and on
+ * shutdown. At startup the index is rebuilt in the background if its document count
+ * does not match the tasks table, and a rebuild can also be requested through the API.
+ * A rebuild overwrites documents in place, so searches keep working while it runs.
+ *
+ * With app.search.index-dir left blank the index lives in memory (used by tests).
+ */
+@Service
+public class TaskSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchIndex.class);
+
+    private static final String ID = "id";
+    private static final String USER_ID = "userId";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    // Which rebuild wrote the document, or which rebuild was current when it was written
+    private static final String GENERATION = "generation";
+
+    // Tasks read per query when re-indexing a bulk reassignment
+    private static final int REINDEX_PAGE_SIZE = 1000;
+
+    // Title matches rank above description matches
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(TITLE, 2.0f, DESCRIPTION, 1.0f);
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate reindexTransaction;
+    private final AsyncTaskExecutor taskExecutor;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    // Guards the writes below against a concurrent rebuild overwriting them with older rows.
+    // IndexWriter is thread-safe on its own; the lock makes the rebuild's check of
+    // tasksChangedDuringRebuild and its write one step. A lock rather than synchronized:
+    // updateDocument can flush segments to disk, and blocking on I/O inside a synchronized
+    // block would pin the carrier thread when requests run on virtual threads
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private long generation = System.currentTimeMillis();
+    // While a rebuild runs: tasks and users changed since it started, else null
+    private Set<Long> tasksChangedDuringRebuild;
+    private Set<Long> usersDeletedDuringRebuild;
+
+    public TaskSearchIndex(TaskRepository taskRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Qualifier("applicationTaskExecutor") AsyncTaskExecutor taskExecutor,
+                           @Value("${app.search.index-dir:}") String indexDir) throws IOException {
+        this.taskRepository = taskRepository;
+        // Both are run with ReadYourWrites.onPrimary(): a replica may not have the rows yet
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // Runs after the writing transaction committed, whose resources are still bound
+        this.reindexTransaction = new TransactionTemplate(transactionManager);
+        this.reindexTransaction.setReadOnly(true);
+        this.reindexTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.taskExecutor = taskExecutor;
+        this.directory = indexDir.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexDir));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    // Queries
+
+    /**
+     * Search titles and descriptions, best matches first.
+     * Supports Lucene query syntax (quoted phrases, prefix*, AND/OR); all terms must
+     * match by default.
+     *
+     * @param text Search text
+     * @param page Page number (0-based)
+     * @param size Number of hits per page
+     * @return Matching task IDs for the page, in rank order, and the total hit count
+     * @throws BadRequestException if the query cannot be parsed
+     */
+    public SearchHits search(String text, int page, int size) {
+        Query query = parse(text);
+        try {
+            searcherManager.maybeRefresh();
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                int total = searcher.count(query);
+                int end = (page + 1) * size;
+                if (page * size >= total) {
+                    return new SearchHits(List.of(), total);
+                }
+                TopDocs topDocs = searcher.search(query, Math.min(end, total));
+                List<Long> ids = new ArrayList<>(size);
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                for (int i = page * size; i < scoreDocs.length; i++) {
+                    ids.add(Long.parseLong(searcher.storedFields().document(scoreDocs[i].doc).get(ID)));
+                }
+                return new SearchHits(ids, total);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private Query parse(String text) {
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(
+                new String[] {TITLE, DESCRIPTION}, analyzer, FIELD_BOOSTS);
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+        try {
+            return parser.parse(text);
+        } catch (ParseException ex) {
+            // Fall back to plain terms if the text is not valid query syntax
+            try {
+                return parser.parse(QueryParser.escape(text));
+            } catch (ParseException escaped) {
+                throw new BadRequestException("Invalid search query: " + text, escaped);
+            }
+        }
+    }
+
+    // Incremental updates (applied after commit)
+
+    public void taskSaved(Long id, String title, String description, Long userId) {
+        afterCommit(() -> {
+            index(id, title, description, userId);
+            searcherManager.maybeRefresh();
+        });
+    }
+
+    public void taskDeleted(Long id) {
+        afterCommit(() -> {
+            unindex(id);
+            searcherManager.maybeRefresh();
+        });
+    }
+
+    /**
+     * Tasks moved to a user by a bulk update that wrote updatedAt: once it commits, read
+     * their titles and descriptions back a page at a time and re-index them under the new
+     * assignee, with a single refresh for the whole batch. Memory use does not depend on
+     * how many tasks moved.
+     */
+    public void tasksReassigned(Long userId, LocalDateTime updatedAt) {
+        afterCommit(() -> {
+            long afterId = 0;
+            List<IndexEntry> page;
+            do {
+                long cursor = afterId;
+                page = ReadYourWrites.onPrimary(() -> reindexTransaction.execute(status -> taskRepository
+                        .findIndexEntries(userId, updatedAt, cursor, PageRequest.ofSize(REINDEX_PAGE_SIZE))));
+                for (IndexEntry task : page) {
+                    index(task.getId(), task.getTitle(), task.getDescription(), userId);
+                    afterId = task.getId();
+                }
+            } while (page.size() == REINDEX_PAGE_SIZE);
+            searcherManager.maybeRefresh();
+        });
+    }
+
+    /**
+     * Tasks removed by a bulk delete, with a single refresh for the whole batch.
+     */
+    public void tasksDeleted(Collection<Long> ids) {
+        afterCommit(() -> {
+            for (Long id : ids) {
+                unindex(id);
+            }
+            searcherManager.maybeRefresh();
+        });
+    }
+
+    /**
+     * A deleted user's tasks are deleted with them; drop them from the index too.
+     */
+    public void userDeleted(Long userId) {
+        afterCommit(() -> {
+            writeLock.lock();
+            try {
+                if (usersDeletedDuringRebuild != null) {
+                    usersDeletedDuringRebuild.add(userId);
+                }
+                writer.deleteDocuments(new Term(USER_ID, userId.toString()));
+            } finally {
+                writeLock.unlock();
+            }
+            searcherManager.maybeRefresh();
+        });
+    }
+
+    private void index(Long id, String title, String description, Long userId) throws IOException {
+        writeLock.lock();
+        try {
+            if (tasksChangedDuringRebuild != null) {
+                tasksChangedDuringRebuild.add(id);
+            }
+            writer.updateDocument(idTerm(id), toDocument(id, title, description, userId, generation));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void unindex(Long id) throws IOException {
+        writeLock.lock();
+        try {
+            if (tasksChangedDuringRebuild != null) {
+                tasksChangedDuringRebuild.add(id);
+            }
+            writer.deleteDocuments(idTerm(id));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Rebuild and persistence
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        long indexed = writer.getDocStats().numDocs;
+        long tasks = taskRepository.count();
+        if (indexed != tasks) {
+            log.info("Task search index has {} documents for {} tasks; rebuilding", indexed, tasks);
+            rebuildInBackground();
+        }
+    }
+
+    /**
+     * Start a full rebuild from the tasks table on the application task executor.
+     *
+     * @return false if a rebuild is already running
+     */
+    public boolean rebuildInBackground() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        taskExecutor.execute(() -> {
+            try {
+                rebuild();
+            } catch (Exception ex) {
+                log.error("Task search index rebuild failed", ex);
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+        return true;
+    }
+
+    public boolean isRebuilding() {
+        return rebuilding.get();
+    }
+
+    /**
+     * Re-index every task in place. Each document is overwritten under its ID and stamped
+     * with a new generation; at the end, documents from older generations belong to tasks
+     * that no longer exist and are deleted. Tasks changed incrementally while the rebuild
+     * runs keep their newer document instead of the row the rebuild read earlier.
+     */
+    private void rebuild() throws IOException {
+        long started = System.currentTimeMillis();
+        long rebuildGeneration;
+        writeLock.lock();
+        try {
+            rebuildGeneration = ++generation;
+            tasksChangedDuringRebuild = new HashSet<>();
+            usersDeletedDuringRebuild = new HashSet<>();
+        } finally {
+            writeLock.unlock();
+        }
+        try {
+            long indexed = ReadYourWrites.onPrimary(() -> readOnlyTransaction.execute(status -> {
+                try (Stream<TaskResponseDTO> tasks = taskRepository.streamAllResponses()) {
+                    long count = 0;
+                    for (TaskResponseDTO task : (Iterable<TaskResponseDTO>) tasks::iterator) {
+                        Long userId = task.getAssignedUser() != null ? task.getAssignedUser().getId() : null;
+                        writeLock.lock();
+                        try {
+                            if (!tasksChangedDuringRebuild.contains(task.getId())) {
+                                writer.updateDocument(idTerm(task.getId()), toDocument(task.getId(),
+                                        task.getTitle(), task.getDescription(), userId, rebuildGeneration));
+                            }
+                        } finally {
+                            writeLock.unlock();
+                        }
+                        count++;
+                    }
+                    return count;
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }));
+            writeLock.lock();
+            try {
+                writer.deleteDocuments(new BooleanQuery.Builder()
+                        .add(new MatchAllDocsQuery(), BooleanClause.Occur.FILTER)
+                        .add(new TermQuery(new Term(GENERATION, Long.toString(rebuildGeneration))),
+                                BooleanClause.Occur.MUST_NOT)
+                        .build());
+                // The rebuild may have read their tasks before the delete committed
+                for (Long userId : usersDeletedDuringRebuild) {
+                    writer.deleteDocuments(new Term(USER_ID, userId.toString()));
+                }
+            } finally {
+                writeLock.unlock();
+            }
+            writer.commit();
+            searcherManager.maybeRefresh();
+            log.info("Rebuilt task search index with {} tasks in {} ms", indexed, System.currentTimeMillis() - started);
+        } finally {
+            writeLock.lock();
+            try {
+                tasksChangedDuringRebuild = null;
+                usersDeletedDuringRebuild = null;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Persist pending changes. Runs every app.search.commit-interval (default 30 seconds).
+     */
+    @Scheduled(fixedDelayString = "${app.search.commit-interval:PT30S}")
+    public void commit() throws IOException {
+        if (writer.hasUncommittedChanges()) {
+            writer.commit();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private static Term idTerm(Long id) {
+        return new Term(ID, id.toString());
+    }
+
+    private static Document toDocument(Long id, String title, String description, Long userId, long generation) {
+        Document document = new Document();
+        document.add(new StringField(ID, id.toString(), Field.Store.YES));
+        document.add(new StringField(GENERATION, Long.toString(generation), Field.Store.NO));
+        if (userId != null) {
+            document.add(new StringField(USER_ID, userId.toString(), Field.Store.NO));
+        }
+        document.add(new TextField(TITLE, title, Field.Store.NO));
+        if (description != null) {
+            document.add(new TextField(DESCRIPTION, description, Field.Store.NO));
+        }
+        return document;
+    }
+
+    /**
+     * Apply the change once the current transaction commits (see AfterCommit). A failure
+     * is logged rather than thrown, since the write it follows has already committed.
+     */
+    private static void afterCommit(IndexChange change) {
+        AfterCommit.run(() -> apply(change));
+    }
+
+    private static void apply(IndexChange change) {
+        try {
+            change.run();
+        } catch (IOException ex) {
+            // The table is the source of truth; a rebuild repairs the index
+            log.error("Failed to update task search index", ex);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexChange {
+        void run() throws IOException;
+    }
+
+    /**
+     * One page of search results: task IDs in rank order plus the total number of hits.
+     */
+    public static final class SearchHits {
+        private final List<Long> ids;
+        private final long total;
+
+        public SearchHits(List<Long> ids, long total) {
+            this.ids = ids;
+            this.total = total;
+        }
+
+        public List<Long> getIds() {
+            return ids;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+    }
+}
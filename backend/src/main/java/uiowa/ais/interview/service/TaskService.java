@@ -1,19 +1,54 @@
 package uiowa.ais.interview.task;
 
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import uiowa.ais.interview.config.CacheConfig;
+import uiowa.ais.interview.counter.CollectionVersions;
+import uiowa.ais.interview.counter.EntityCounters;
 import uiowa.ais.interview.entity.Task;
 import uiowa.ais.interview.entity.User;
+import uiowa.ais.interview.exception.BadRequestException;
+import uiowa.ais.interview.exception.PreconditionFailedException;
 import uiowa.ais.interview.exception.ResourceNotFoundException;
+import uiowa.ais.interview.projection.ConditionalResponses;
+import uiowa.ais.interview.projection.CursorPage;
+import uiowa.ais.interview.routing.ReadYourWrites;
+import uiowa.ais.interview.task.TaskDTO.BulkReassignDTO;
+import uiowa.ais.interview.task.TaskDTO.BulkStatusDTO;
 import uiowa.ais.interview.task.TaskDTO.CreateTaskDTO;
+import uiowa.ais.interview.task.TaskDTO.PatchTaskDTO;
+import uiowa.ais.interview.task.TaskDTO.TaskPatchResultDTO;
 import uiowa.ais.interview.task.TaskDTO.TaskResponseDTO;
+import uiowa.ais.interview.task.TaskRepository.TaskState;
+import uiowa.ais.interview.task.TaskWriteRepository.TaskUpdate;
 import uiowa.ais.interview.user.UserRepository;
 import uiowa.ais.interview.entity.TaskStatus;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 
 /**
  * Service layer for Task operations.
@@ -23,12 +58,31 @@ import uiowa.ais.interview.entity.TaskStatus;
 @Transactional
 public class TaskService {
 
+    // Largest IN list a bulk UPDATE binds at once
+    private static final int BULK_CHUNK_SIZE = 1000;
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final EntityCounters entityCounters;
+    private final CollectionVersions collectionVersions;
+    private final TaskSearchIndex taskSearchIndex;
+    private final EntityManager entityManager;
+    private final int batchSize;
 
-    public TaskService(TaskRepository taskRepository, UserRepository userRepository) {
+    public TaskService(TaskRepository taskRepository,
+                       UserRepository userRepository,
+                       EntityCounters entityCounters,
+                       CollectionVersions collectionVersions,
+                       TaskSearchIndex taskSearchIndex,
+                       EntityManager entityManager,
+                       @Value("${app.batch.size:50}") int batchSize) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
+        this.entityCounters = entityCounters;
+        this.collectionVersions = collectionVersions;
+        this.taskSearchIndex = taskSearchIndex;
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
     }
 
     /**
@@ -43,56 +97,353 @@ public class TaskService {
         
         Task task = dto.toEntity(user);
         Task savedTask = taskRepository.save(task);
+        entityCounters.taskCreated(savedTask.getStatus(), user.getId());
+        collectionVersions.tasksChanged();
+        taskSearchIndex.taskSaved(savedTask.getId(), savedTask.getTitle(), savedTask.getDescription(), user.getId());
         return TaskResponseDTO.fromEntity(savedTask);
     }
 
     /**
-     * Update an existing task.
+     * Create many tasks in one transaction.
+     * All assignees are resolved with a single query, inserts go out in JDBC batches
+     * of app.batch.size, and the persistence context is flushed and cleared after each
+     * batch so memory stays flat regardless of how many tasks are imported.
      *
-     * @param id  Task ID to update
-     * @param dto Updated task data
+     * @param dtos Task data from the API request
+     * @return Created tasks with IDs and timestamps, in request order
+     * @throws ResourceNotFoundException if any assigned user does not exist
+     */
+    public List<TaskResponseDTO> createTasks(List<CreateTaskDTO> dtos) {
+        Set<Long> userIds = dtos.stream()
+                .map(CreateTaskDTO::getAssignedUserId)
+                .collect(Collectors.toSet());
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        if (users.size() != userIds.size()) {
+            userIds.removeAll(users.keySet());
+            throw new ResourceNotFoundException("Users not found with ids: " + userIds);
+        }
+
+        collectionVersions.tasksChanged();
+        List<TaskResponseDTO> createdTasks = new ArrayList<>(dtos.size());
+        for (int i = 0; i < dtos.size(); i++) {
+            CreateTaskDTO dto = dtos.get(i);
+            Task task = dto.toEntity(users.get(dto.getAssignedUserId()));
+            entityManager.persist(task);
+            entityCounters.taskCreated(task.getStatus(), dto.getAssignedUserId());
+            taskSearchIndex.taskSaved(task.getId(), task.getTitle(), task.getDescription(), dto.getAssignedUserId());
+            createdTasks.add(TaskResponseDTO.fromEntity(task));
+
+            // Send the batch and drop the written tasks from the persistence context
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        return createdTasks;
+    }
+
+    /**
+     * Update an existing task with a version-guarded UPDATE (see TaskWriteRepository):
+     * its previous status and assignee are read for the counters, and the new row with
+     * its assignee for the response. Neither the Task nor the User entity is loaded.
+     * A missing task is detected from the write changing nothing, a missing assignee
+     * from its foreign key.
+     *
+     * @param id      Task ID to update
+     * @param dto     Updated task data
+     * @param ifMatch Optional If-Match header; the update only applies if it matches the current ETag
      * @return Updated task
-     * @throws ResourceNotFoundException if task not found
+     * @throws ResourceNotFoundException if task or user not found
+     * @throws PreconditionFailedException if ifMatch does not match the current ETag
+     * @throws OptimisticLockingFailureException if the task was changed concurrently
      */
-    public TaskResponseDTO updateTask(Long id, CreateTaskDTO dto) {
+    @CacheEvict(cacheNames = CacheConfig.TASKS, key = "#id")
+    public TaskResponseDTO updateTask(Long id, CreateTaskDTO dto, String ifMatch) {
+        long[] expected = expectedVersions(id, ifMatch);
+        TaskUpdate update;
+        try {
+            update = taskRepository.updateTaskById(id, dto, LocalDateTime.now(),
+                            expected == null ? null : expected[0], expected == null ? null : expected[1])
+                    .orElseThrow(() -> writeFailed(id, ifMatch));
+        } catch (DataIntegrityViolationException ex) {
+            throw new ResourceNotFoundException("User not found with id: " + dto.getAssignedUserId());
+        }
+
+        TaskState previous = update.getPrevious();
+        entityCounters.taskChanged(previous.getStatus(), previous.getUserId(), dto.getStatus(), dto.getAssignedUserId());
+        collectionVersions.tasksChanged();
+        taskSearchIndex.taskSaved(id, dto.getTitle(), dto.getDescription(), dto.getAssignedUserId());
+        return update.getUpdated();
+    }
+
+    /**
+     * Partially update a task: only the non-null fields of the DTO are changed, and the
+     * UPDATE (see @DynamicUpdate on Task) sets only the columns that actually changed.
+     * The assignee is only looked up when it changes.
+     *
+     * A status-only patch, the most common change on the board, takes a fast path that
+     * never loads the Task or User entity: the previous status is read for the counters,
+     * then one UPDATE ... SET status, updated_at, version runs guarded by the versions read
+     * (which must match If-Match).
+     *
+     * @param id      Task ID to update
+     * @param dto     Fields to change
+     * @param ifMatch Optional If-Match header; the update only applies if it matches the current ETag
+     * @return ID, new version and updatedAt, plus the fields that changed
+     * @throws BadRequestException if the patch has no fields
+     * @throws ResourceNotFoundException if the task or the new assignee is not found
+     * @throws PreconditionFailedException if ifMatch does not match the current ETag
+     * @throws OptimisticLockingFailureException if the task was changed concurrently
+     */
+    @CacheEvict(cacheNames = CacheConfig.TASKS, key = "#id")
+    public TaskPatchResultDTO patchTask(Long id, PatchTaskDTO dto, String ifMatch) {
+        if (dto.isEmpty()) {
+            throw new BadRequestException("Patch must change at least one field");
+        }
+        if (dto.isStatusOnly()) {
+            return patchStatus(id, dto.getStatus(), ifMatch);
+        }
+
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+        if (ifMatch != null) {
+            ConditionalResponses.checkIfMatch(ifMatch,
+                    ConditionalResponses.eTag("task", id, task.getVersion(), task.getUser().getVersion()));
+        }
+
+        TaskStatus oldStatus = task.getStatus();
+        Long oldUserId = task.getUser().getId();
+        boolean textChanged = false;
+
+        TaskPatchResultDTO result = new TaskPatchResultDTO();
+        if (dto.getTitle() != null && !dto.getTitle().equals(task.getTitle())) {
+            task.setTitle(dto.getTitle());
+            result.setTitle(dto.getTitle());
+            textChanged = true;
+        }
+        if (dto.getDescription() != null && !dto.getDescription().equals(task.getDescription())) {
+            task.setDescription(dto.getDescription());
+            result.setDescription(dto.getDescription());
+            textChanged = true;
+        }
+        if (dto.getStatus() != null && dto.getStatus() != oldStatus) {
+            task.setStatus(dto.getStatus());
+            result.setStatus(dto.getStatus());
+        }
+        if (dto.getPriority() != null && dto.getPriority() != task.getPriority()) {
+            task.setPriority(dto.getPriority());
+            result.setPriority(dto.getPriority());
+        }
+        if (dto.getDueDate() != null && !dto.getDueDate().equals(task.getDueDate())) {
+            task.setDueDate(dto.getDueDate());
+            result.setDueDate(dto.getDueDate());
+        }
+        if (dto.getAssignedUserId() != null && !dto.getAssignedUserId().equals(oldUserId)) {
+            task.setUser(userRepository.findById(dto.getAssignedUserId())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + dto.getAssignedUserId())));
+            result.setAssignedUserId(dto.getAssignedUserId());
+            textChanged = true;
+        }
+
+        // Flush now so the response carries the new version and updatedAt; with nothing
+        // dirty Hibernate issues no UPDATE and both stay as they were
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        result.setId(id);
+        result.setVersion(updatedTask.getVersion());
+        result.setUpdatedAt(updatedTask.getUpdatedAt());
+        result.setAssignedUserVersion(updatedTask.getUser().getVersion());
+
+        entityCounters.taskChanged(oldStatus, oldUserId, updatedTask.getStatus(), updatedTask.getUser().getId());
+        collectionVersions.tasksChanged();
+        if (textChanged) {
+            taskSearchIndex.taskSaved(id, updatedTask.getTitle(), updatedTask.getDescription(), updatedTask.getUser().getId());
+        }
+        return result;
+    }
+
+    /**
+     * Status-only fast path of patchTask. The search index does not hold status, so only
+     * the counters and collection version need updating.
+     */
+    private TaskPatchResultDTO patchStatus(Long id, TaskStatus status, String ifMatch) {
+        long[] expected = expectedVersions(id, ifMatch);
+        LocalDateTime now = LocalDateTime.now();
+        TaskState previous = taskRepository.updateStatusById(id, status, now,
+                        expected == null ? null : expected[0], expected == null ? null : expected[1])
+                .orElseThrow(() -> writeFailed(id, ifMatch));
+
+        entityCounters.taskChanged(previous.getStatus(), previous.getUserId(), status, previous.getUserId());
+        collectionVersions.tasksChanged();
+
+        TaskPatchResultDTO result = new TaskPatchResultDTO(id, now, previous.getVersion() + 1, previous.getUserVersion());
+        result.setStatus(status);
+        return result;
+    }
+
+    /**
+     * The task and assignee versions an If-Match header expects, to be checked by the
+     * write itself. Null if there is no precondition. A header listing several ETags
+     * cannot be one WHERE condition, so then the task is read and checked first.
+     */
+    private long[] expectedVersions(Long id, String ifMatch) {
+        List<long[]> candidates = ConditionalResponses.ifMatchVersions(ifMatch, "task", id);
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        if (candidates.size() == 1 && candidates.get(0).length == 2) {
+            return candidates.get(0);
+        }
+        TaskState state = taskRepository.findStateById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+        ConditionalResponses.checkIfMatch(ifMatch,
+                ConditionalResponses.eTag("task", id, state.getVersion(), state.getUserVersion()));
+        return new long[] {state.getVersion(), state.getUserVersion()};
+    }
+
+    /**
+     * A guarded write changed nothing. Read the task to tell why: it does not
+     * exist (404), the If-Match versions are stale (412), or it changed in between (409).
+     */
+    private RuntimeException writeFailed(Long id, String ifMatch) {
+        Optional<TaskState> current = taskRepository.findStateById(id);
+        if (current.isEmpty()) {
+            return new ResourceNotFoundException("Task not found with id: " + id);
+        }
+        try {
+            ConditionalResponses.checkIfMatch(ifMatch,
+                    ConditionalResponses.eTag("task", id, current.get().getVersion(), current.get().getUserVersion()));
+        } catch (PreconditionFailedException ex) {
+            return ex;
+        }
+        return new ObjectOptimisticLockingFailureException(Task.class, id);
+    }
+
+    /**
+     * Move many tasks to one status with set-based UPDATEs instead of one load and
+     * UPDATE per task. Tasks are selected by ID or by filter; those already in the status
+     * are skipped. By filter it is a single statement; ID lists are split into chunks of
+     * BULK_CHUNK_SIZE to keep IN lists bounded.
+     *
+     * The statements bypass the persistence context, so the whole task cache is evicted
+     * (Hibernate invalidates its second-level cache region itself) and the status
+     * counters are rebuilt on the next read.
+     *
+     * @param dto IDs or filter, and the new status
+     * @return Number of tasks changed
+     * @throws BadRequestException unless exactly one of ids and a non-empty filter is given
+     */
+    @CacheEvict(cacheNames = CacheConfig.TASKS, allEntries = true)
+    public int updateStatusInBulk(BulkStatusDTO dto) {
+        requireIdsOrFilter(dto.getIds(), dto.getFilter());
+        LocalDateTime now = LocalDateTime.now();
+
+        int updated = 0;
+        if (dto.getIds() != null) {
+            for (List<Long> chunk : chunks(dto.getIds())) {
+                updated += taskRepository.updateStatusByIdIn(chunk, dto.getStatus(), now);
+            }
+        } else {
+            updated = taskRepository.updateStatusMatching(dto.getFilter(), dto.getStatus(), now);
+        }
+
+        if (updated > 0) {
+            entityCounters.tasksChangedInBulk();
+            collectionVersions.tasksChanged();
+        }
+        return updated;
+    }
 
-        task.setTitle(dto.getTitle());
-        task.setDescription(dto.getDescription());
-        task.setStatus(dto.getStatus());
-        task.setPriority(dto.getPriority());
-        task.setDueDate(dto.getDueDate());
-        task.setUser(userRepository.findById(dto.getAssignedUserId())
-            .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + dto.getAssignedUserId())));
+    /**
+     * Assign many tasks to one user with set-based UPDATEs, e.g. everything from a
+     * departing user (filter on assignedUserId). Tasks are selected by ID or by filter;
+     * those already assigned to the user are skipped. By filter it is a single statement;
+     * ID lists are split into chunks of BULK_CHUNK_SIZE to keep IN lists bounded.
+     *
+     * Nothing is read beforehand. The search index stores each task's assignee, so after
+     * commit it re-reads the moved tasks (recognized by the updatedAt written here) a page
+     * at a time; memory use does not grow with the number of tasks moved.
+     *
+     * @param dto IDs or filter, and the new assignee
+     * @return Number of tasks changed
+     * @throws BadRequestException unless exactly one of ids and a non-empty filter is given
+     * @throws ResourceNotFoundException if the user is not found
+     */
+    @CacheEvict(cacheNames = CacheConfig.TASKS, allEntries = true)
+    public int reassignInBulk(BulkReassignDTO dto) {
+        requireIdsOrFilter(dto.getIds(), dto.getFilter());
+        Long userId = dto.getAssignedUserId();
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
 
-        Task updatedTask = taskRepository.save(task);
-        return TaskResponseDTO.fromEntity(updatedTask);
+        // A reference is enough for the foreign key; the user is not loaded
+        User user = userRepository.getReferenceById(userId);
+        // Stored as TIMESTAMP(6), so truncate to compare it with the stored value later
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        int updated = 0;
+        if (dto.getIds() != null) {
+            for (List<Long> chunk : chunks(dto.getIds())) {
+                updated += taskRepository.reassignByIdIn(chunk, user, now);
+            }
+        } else {
+            updated = taskRepository.reassignMatching(dto.getFilter(), user, now);
+        }
+
+        if (updated > 0) {
+            entityCounters.tasksChangedInBulk();
+            collectionVersions.tasksChanged();
+            taskSearchIndex.tasksReassigned(userId, now);
+        }
+        return updated;
+    }
+
+    private static void requireIdsOrFilter(List<Long> ids, TaskFilter filter) {
+        boolean hasIds = ids != null && !ids.isEmpty();
+        boolean hasFilter = filter != null && !filter.isEmpty();
+        if (hasIds == hasFilter) {
+            throw new BadRequestException("Select tasks with either a non-empty ids list or a non-empty filter");
+        }
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
     }
 
     /**
-     * Delete a task by ID.
+     * Delete a task by ID with a version-guarded DELETE, which also returns the status and
+     * assignee the counters need. A missing task is detected from the write changing nothing.
      *
      * @param id Task ID to delete
      * @throws ResourceNotFoundException if task not found
      */
+    @CacheEvict(cacheNames = CacheConfig.TASKS, key = "#id")
     public void deleteTask(Long id) {
-        if (!taskRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Task not found with id: " + id);
-        }
-        taskRepository.deleteById(id);
+        TaskState previous = taskRepository.deleteTaskById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+        entityCounters.taskDeleted(previous.getStatus(), previous.getUserId());
+        collectionVersions.tasksChanged();
+        taskSearchIndex.taskDeleted(id);
     }
 
     /**
      * Get a single task by ID.
+     * Results are cached by ID (read from the primary database) until the task (or its assigned user) changes.
      *
      * @param id Task ID
      * @return Task data
      * @throws ResourceNotFoundException if task not found
      */
+    @Cacheable(cacheNames = CacheConfig.TASKS, key = "#id")
     @Transactional(readOnly = true)
     public TaskResponseDTO getTaskById(Long id) {
-        Task task = taskRepository.findById(id)
+        // Read from the primary: a replica's copy could trail the write that evicted it
+        Task task = ReadYourWrites.onPrimary(() -> taskRepository.findById(id))
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
         return TaskResponseDTO.fromEntity(task);
     }
@@ -108,33 +459,147 @@ public class TaskService {
      */
     @Transactional(readOnly = true)
     public Page<TaskResponseDTO> getAllTasks(String status, int page, int size) {
-        // Create a Pageable object with sorting by ID descending (newest first)
-        Pageable pageable = PageRequest.of(page, size, Sort.by("id").descending());
+        return getAllTasks(TaskFilter.ofStatus(status), null, page, size);
+    }
+
+    /**
+     * Get tasks matching any combination of filters, with pagination and sorting.
+     *
+     * The common shapes (no filter, or a single status, newest first) use the static
+     * projection queries and take their totals from the in-memory counters. Everything
+     * else is compiled into one Criteria query; a COUNT is only issued when the page
+     * alone cannot tell the total.
+     *
+     * @param filter Criteria to apply (empty fields are ignored)
+     * @param sort   Sort parameter, see TaskFilter.parseSort (null for newest first)
+     * @param page   Page number (0-based)
+     * @param size   Number of items per page
+     * @return Page of tasks with metadata
+     */
+    @Transactional(readOnly = true)
+    public Page<TaskResponseDTO> getAllTasks(TaskFilter filter, String sort, int page, int size) {
+        Sort order = TaskFilter.parseSort(sort);
+        Pageable pageable = PageRequest.of(page, size, order);
+
+        if (order.equals(TaskFilter.DEFAULT_SORT)) {
+            // Both queries project straight into DTOs, so no managed entities are loaded.
+            // They return slices without a COUNT; the total comes from the in-memory counters.
+            if (filter.isEmpty()) {
+                Slice<TaskResponseDTO> slice = taskRepository.findAllResponses(pageable);
+                return new PageImpl<>(slice.getContent(), pageable, entityCounters.getTaskCount());
+            }
+            TaskStatus onlyStatus = filter.getOnlyStatus();
+            if (onlyStatus != null) {
+                Slice<TaskResponseDTO> slice = taskRepository.findResponsesByStatus(onlyStatus, pageable);
+                return new PageImpl<>(slice.getContent(), pageable, entityCounters.getTaskCount(onlyStatus));
+            }
+        }
 
-        Page<Task> taskPage;
+        List<TaskResponseDTO> tasks = taskRepository.findResponses(filter, null, pageable);
+        if (filter.isEmpty()) {
+            return new PageImpl<>(tasks, pageable, entityCounters.getTaskCount());
+        }
+        return PageableExecutionUtils.getPage(tasks, pageable, () -> taskRepository.countMatching(filter));
+    }
 
-        // If status filter is provided and not empty, use filtered query
-        if (status != null && !status.trim().isEmpty()) {
-            TaskStatus taskStatus = TaskStatus.valueOf(status.trim());
-            taskPage = taskRepository.findByStatus(taskStatus, pageable);
+    /**
+     * Get tasks using cursor-based (keyset) pagination with optional filters.
+     * Unlike getAllTasks, this never counts the table and its cost does not grow with
+     * how deep the client has paged. Always ordered newest first.
+     *
+     * @param filter Criteria to apply (empty fields are ignored)
+     * @param after  Cursor returned by the previous call (null for the first page)
+     * @param limit  Number of items per page (clamped to 1..MAX_LIMIT)
+     * @return Tasks plus the cursor for the next page
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponseDTO> getTasksAfter(TaskFilter filter, String after, int limit) {
+        int pageLimit = Math.max(1, Math.min(limit, CursorPage.MAX_LIMIT));
+        long cursor = CursorPage.decode(after);
+
+        // Fetch one extra row to find out whether there is a next page
+        Pageable pageable = PageRequest.ofSize(pageLimit + 1);
+
+        List<TaskResponseDTO> tasks;
+        TaskStatus onlyStatus = filter.getOnlyStatus();
+        if (filter.isEmpty()) {
+            tasks = taskRepository.findPageBefore(cursor, pageable);
+        } else if (onlyStatus != null) {
+            tasks = taskRepository.findPageByStatusBefore(onlyStatus, cursor, pageable);
         } else {
-            // Otherwise, get all tasks
-            taskPage = taskRepository.findAll(pageable);
+            tasks = taskRepository.findResponses(filter, cursor, pageable);
+        }
+
+        return CursorPage.of(tasks, pageLimit, TaskResponseDTO::getId);
+    }
+
+    /**
+     * Full-text search over task titles and descriptions.
+     * Ranking and paging come from the search index; the hits are then loaded with one query.
+     *
+     * @param query Search text
+     * @param page  Page number (0-based)
+     * @param size  Number of items per page
+     * @return Page of matching tasks, best matches first
+     */
+    @Transactional(readOnly = true)
+    public Page<TaskResponseDTO> searchTasks(String query, int page, int size) {
+        TaskSearchIndex.SearchHits hits = taskSearchIndex.search(query, page, size);
+        if (hits.getIds().isEmpty()) {
+            return new PageImpl<>(List.of(), PageRequest.of(page, size), hits.getTotal());
         }
 
-        // Convert Page<Task> to Page<TaskResponseDTO>
-        // The map() method applies the conversion to each task in the page
-        return taskPage.map(TaskResponseDTO::fromEntity);
+        Map<Long, TaskResponseDTO> tasksById = taskRepository.findResponsesByIdIn(hits.getIds()).stream()
+                .collect(Collectors.toMap(TaskResponseDTO::getId, Function.identity()));
+
+        // Keep the index's rank order; skip hits deleted since they were indexed
+        List<TaskResponseDTO> tasks = hits.getIds().stream()
+                .map(tasksById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(tasks, PageRequest.of(page, size), hits.getTotal());
+    }
+
+    /**
+     * Rebuild the search index from the tasks table in the background.
+     *
+     * @return false if a rebuild is already running
+     */
+    public boolean rebuildSearchIndex() {
+        return taskSearchIndex.rebuildInBackground();
     }
 
     /**
      * Get total count of all tasks.
      * Useful for dashboard statistics.
+     * Served from the in-memory counters rather than a COUNT query.
      *
      * @return Total number of tasks
      */
     @Transactional(readOnly = true)
     public long getTotalTaskCount() {
-        return taskRepository.count();
+        return entityCounters.getTaskCount();
+    }
+
+    /**
+     * Get the number of tasks assigned to a user.
+     *
+     * @param userId Assigned user ID
+     * @return Number of tasks assigned to the user
+     */
+    @Transactional(readOnly = true)
+    public long getTaskCountForUser(Long userId) {
+        return entityCounters.getTaskCountForUser(userId);
+    }
+
+    /**
+     * Get task counts broken down by status.
+     * Useful for dashboard statistics.
+     *
+     * @return Number of tasks for every status
+     */
+    @Transactional(readOnly = true)
+    public Map<TaskStatus, Long> getTaskCountsByStatus() {
+        return entityCounters.getTaskCountsByStatus();
     }
 }
@@ -0,0 +1,229 @@
+package uiowa.ais.interview.user;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import uiowa.ais.interview.counter.AfterCommit;
+import uiowa.ais.interview.user.UserDTO.UserResponseDTO;
+import uiowa.ais.interview.user.UserDTO.UserSuggestionDTO;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory n-gram index of user names and emails for substring and prefix lookups.
+ *
+ * Every lowercased name and email is split into all 1-, 2- and 3-character grams. A
+ * substring query takes the smallest posting set among its grams and verifies those
+ * candidates, so lookups touch only a handful of users instead of running LIKE '%x%'
+ * over the whole table. Names are also kept in a sorted map for prefix scans.
+ *
+ * UserService reports creates, updates and deletes; they are applied after commit.
+ * The index is loaded from the database at startup.
+ */
+@Component
+public class UserNameIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(UserNameIndex.class);
+
+    private static final int MAX_GRAM = 3;
+
+    private final UserRepository userRepository;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> nameGrams = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> emailGrams = new ConcurrentHashMap<>();
+
+    // Key: lowercased name + '\0' + id, so equal names stay distinct and sort by name
+    private final NavigableMap<String, Long> namesSorted = new ConcurrentSkipListMap<>();
+
+    public UserNameIndex(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        List<UserResponseDTO> users = userRepository.findAllResponses();
+        users.forEach(user -> add(user.getId(), user.getName(), user.getEmail()));
+        log.debug("Loaded {} users into the name index", users.size());
+    }
+
+    // Queries
+
+    /**
+     * IDs of users whose name contains the text (case-insensitive), newest first.
+     * Same matching as findByNameContainingIgnoreCase, without the table scan.
+     */
+    public List<Long> findIdsByName(String text) {
+        String query = normalize(text);
+        List<Long> ids = new ArrayList<>();
+        for (Long id : candidates(nameGrams, query)) {
+            Entry entry = entries.get(id);
+            if (entry != null && entry.name.contains(query)) {
+                ids.add(id);
+            }
+        }
+        ids.sort(Comparator.reverseOrder());
+        return ids;
+    }
+
+    /**
+     * Typeahead suggestions: users whose name starts with the text come first
+     * (alphabetically), followed by other users whose name or email contains it.
+     *
+     * @param text  What the user has typed so far
+     * @param limit Maximum number of suggestions
+     */
+    public List<UserSuggestionDTO> suggest(String text, int limit) {
+        String query = normalize(text);
+        List<UserSuggestionDTO> suggestions = new ArrayList<>(limit);
+        Set<Long> seen = new HashSet<>();
+
+        // Prefix matches from the sorted names
+        for (Map.Entry<String, Long> match : namesSorted.tailMap(query, true).entrySet()) {
+            if (suggestions.size() >= limit || !match.getKey().startsWith(query)) {
+                break;
+            }
+            addSuggestion(suggestions, seen, match.getValue());
+        }
+
+        if (suggestions.size() >= limit) {
+            return suggestions;
+        }
+
+        // Then substring matches on name or email
+        List<Long> others = new ArrayList<>();
+        for (Map<String, Set<Long>> grams : List.of(nameGrams, emailGrams)) {
+            for (Long id : candidates(grams, query)) {
+                Entry entry = entries.get(id);
+                if (entry != null && !seen.contains(id)
+                        && (entry.name.contains(query) || entry.email.contains(query))) {
+                    others.add(id);
+                }
+            }
+        }
+        others.stream()
+                .distinct()
+                .map(entries::get)
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(entry -> entry.name))
+                .forEach(entry -> {
+                    if (suggestions.size() < limit) {
+                        addSuggestion(suggestions, seen, entry.id);
+                    }
+                });
+        return suggestions;
+    }
+
+    private void addSuggestion(List<UserSuggestionDTO> suggestions, Set<Long> seen, Long id) {
+        Entry entry = entries.get(id);
+        if (entry != null && seen.add(id)) {
+            suggestions.add(new UserSuggestionDTO(entry.id, entry.displayName));
+        }
+    }
+
+    /**
+     * Users containing the query's rarest gram; a superset of the real matches.
+     */
+    private static Set<Long> candidates(Map<String, Set<Long>> grams, String query) {
+        if (query.length() <= MAX_GRAM) {
+            return grams.getOrDefault(query, Set.of());
+        }
+        Set<Long> smallest = null;
+        for (int i = 0; i + MAX_GRAM <= query.length(); i++) {
+            Set<Long> posting = grams.getOrDefault(query.substring(i, i + MAX_GRAM), Set.of());
+            if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+            if (smallest.isEmpty()) {
+                break;
+            }
+        }
+        return smallest;
+    }
+
+    // Updates (applied after commit)
+
+    public void userSaved(Long id, String name, String email) {
+        AfterCommit.run(() -> {
+            remove(id);
+            add(id, name, email);
+        });
+    }
+
+    public void userDeleted(Long id) {
+        AfterCommit.run(() -> remove(id));
+    }
+
+    private void add(Long id, String name, String email) {
+        Entry entry = new Entry(id, name, normalize(name), normalize(email));
+        entries.put(id, entry);
+        addGrams(nameGrams, entry.name, id);
+        addGrams(emailGrams, entry.email, id);
+        namesSorted.put(entry.name + '\0' + id, id);
+    }
+
+    private void remove(Long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        removeGrams(nameGrams, entry.name, id);
+        removeGrams(emailGrams, entry.email, id);
+        namesSorted.remove(entry.name + '\0' + id);
+    }
+
+    private static void addGrams(Map<String, Set<Long>> grams, String text, Long id) {
+        for (String gram : gramsOf(text)) {
+            grams.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    private static void removeGrams(Map<String, Set<Long>> grams, String text, Long id) {
+        for (String gram : gramsOf(text)) {
+            grams.computeIfPresent(gram, (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private static Set<String> gramsOf(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int length = 1; length <= MAX_GRAM; length++) {
+            for (int i = 0; i + length <= text.length(); i++) {
+                grams.add(text.substring(i, i + length));
+            }
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entry {
+        private final Long id;
+        private final String displayName;
+        private final String name;
+        private final String email;
+
+        private Entry(Long id, String displayName, String name, String email) {
+            this.id = id;
+            this.displayName = displayName;
+            this.name = name;
+            this.email = email;
+        }
+    }
+}
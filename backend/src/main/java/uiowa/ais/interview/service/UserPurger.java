@@ -0,0 +1,180 @@
+package uiowa.ais.interview.user;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uiowa.ais.interview.config.CacheConfig;
+import uiowa.ais.interview.counter.CollectionVersions;
+import uiowa.ais.interview.counter.EntityCounters;
+import uiowa.ais.interview.exception.ResourceNotFoundException;
+import uiowa.ais.interview.task.TaskRepository;
+import uiowa.ais.interview.task.TaskSearchIndex;
+import uiowa.ais.interview.user.UserDTO.PurgeProgressDTO;
+import uiowa.ais.interview.user.UserDTO.PurgeProgressDTO.State;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background deletion of users who own very many tasks.
+ *
+ * UserService.deleteUser removes all of a user's tasks in one statement, which holds
+ * locks on every one of them until it commits. A purge instead deletes the tasks in
+ * chunks of app.purge.chunk-size, each in its own short transaction on the application
+ * task executor, and then deletes the user through UserService.deleteUser. Progress is
+ * kept in memory per user until the next purge of the same user.
+ *
+ * A purge that fails part-way leaves the user with fewer tasks; starting it again
+ * carries on from there.
+ */
+@Service
+public class UserPurger {
+
+    private static final Logger log = LoggerFactory.getLogger(UserPurger.class);
+
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final UserService userService;
+    private final EntityCounters entityCounters;
+    private final CollectionVersions collectionVersions;
+    private final TaskSearchIndex taskSearchIndex;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transaction;
+    private final AsyncTaskExecutor taskExecutor;
+    private final int chunkSize;
+
+    private final Map<Long, Purge> purges = new ConcurrentHashMap<>();
+
+    public UserPurger(UserRepository userRepository,
+                      TaskRepository taskRepository,
+                      UserService userService,
+                      EntityCounters entityCounters,
+                      CollectionVersions collectionVersions,
+                      TaskSearchIndex taskSearchIndex,
+                      CacheManager cacheManager,
+                      PlatformTransactionManager transactionManager,
+                      @Qualifier("applicationTaskExecutor") AsyncTaskExecutor taskExecutor,
+                      @Value("${app.purge.chunk-size:1000}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+        this.userService = userService;
+        this.entityCounters = entityCounters;
+        this.collectionVersions = collectionVersions;
+        this.taskSearchIndex = taskSearchIndex;
+        this.cacheManager = cacheManager;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.taskExecutor = taskExecutor;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Start purging a user in the background.
+     * If a purge of the same user is already running, that one is returned instead.
+     *
+     * @param userId User to delete along with their tasks
+     * @return Progress at the start of the purge
+     * @throws ResourceNotFoundException if user not found
+     */
+    public PurgeProgressDTO start(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+
+        Purge started = new Purge(userId, entityCounters.getTaskCountForUser(userId));
+        Purge purge = purges.compute(userId,
+                (id, current) -> current != null && current.state == State.RUNNING ? current : started);
+        if (purge == started) {
+            taskExecutor.execute(() -> run(purge));
+        }
+        return purge.toDTO();
+    }
+
+    /**
+     * Progress of the latest purge of a user.
+     *
+     * @throws ResourceNotFoundException if the user was never purged since startup
+     */
+    public PurgeProgressDTO getProgress(Long userId) {
+        Purge purge = purges.get(userId);
+        if (purge == null) {
+            throw new ResourceNotFoundException("No purge found for user id: " + userId);
+        }
+        return purge.toDTO();
+    }
+
+    private void run(Purge purge) {
+        try {
+            int deleted;
+            do {
+                List<Long> ids = transaction.execute(status -> deleteChunk(purge.userId));
+                deleted = ids.size();
+                evictTasks(ids);
+                purge.deletedTasks.addAndGet(deleted);
+            } while (deleted == chunkSize);
+
+            userService.deleteUser(purge.userId);
+            purge.finish(State.DONE, null);
+            log.info("Purged user {} and {} tasks", purge.userId, purge.deletedTasks.get());
+        } catch (RuntimeException ex) {
+            log.error("Purge of user {} failed after {} tasks", purge.userId, purge.deletedTasks.get(), ex);
+            purge.finish(State.FAILED, ex.getMessage());
+        }
+    }
+
+    /**
+     * Delete the next chunk of the user's tasks: one SELECT for the IDs, one DELETE.
+     */
+    private List<Long> deleteChunk(Long userId) {
+        List<Long> ids = taskRepository.findIdsByUserId(userId, PageRequest.of(0, chunkSize));
+        if (!ids.isEmpty()) {
+            taskRepository.deleteByIdIn(ids);
+            entityCounters.tasksChangedInBulk();
+            collectionVersions.tasksChanged();
+            taskSearchIndex.tasksDeleted(ids);
+        }
+        return ids;
+    }
+
+    private void evictTasks(List<Long> ids) {
+        Cache taskCache = cacheManager.getCache(CacheConfig.TASKS);
+        if (taskCache != null) {
+            ids.forEach(taskCache::evict);
+        }
+    }
+
+    private static final class Purge {
+        private final Long userId;
+        private final long totalTasks;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong deletedTasks = new AtomicLong();
+        private volatile State state = State.RUNNING;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        private Purge(Long userId, long totalTasks) {
+            this.userId = userId;
+            this.totalTasks = totalTasks;
+        }
+
+        private void finish(State state, String error) {
+            this.error = error;
+            this.finishedAt = LocalDateTime.now();
+            this.state = state;
+        }
+
+        private PurgeProgressDTO toDTO() {
+            return new PurgeProgressDTO(userId, state, totalTasks, deletedTasks.get(), startedAt, finishedAt, error);
+        }
+    }
+}
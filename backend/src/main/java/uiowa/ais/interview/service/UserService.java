@@ -1,15 +1,38 @@
 package uiowa.ais.interview.user;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import uiowa.ais.interview.config.CacheConfig;
+import uiowa.ais.interview.counter.CollectionVersions;
+import uiowa.ais.interview.counter.EntityCounters;
 import uiowa.ais.interview.entity.User;
+import uiowa.ais.interview.exception.PreconditionFailedException;
 import uiowa.ais.interview.exception.ResourceNotFoundException;
+import uiowa.ais.interview.projection.ConditionalResponses;
+import uiowa.ais.interview.projection.CursorPage;
+import uiowa.ais.interview.routing.ReadYourWrites;
+import uiowa.ais.interview.task.TaskRepository;
+import uiowa.ais.interview.task.TaskSearchIndex;
 import uiowa.ais.interview.user.UserDTO.CreateUserDTO;
 import uiowa.ais.interview.user.UserDTO.UserResponseDTO;
+import uiowa.ais.interview.user.UserDTO.UserSuggestionDTO;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service layer for User operations.
@@ -19,10 +42,30 @@ import uiowa.ais.interview.user.UserDTO.UserResponseDTO;
 @Transactional
 public class UserService {
 
+    /**
+     * Upper bound on typeahead suggestions per request.
+     */
+    public static final int MAX_SUGGESTIONS = 50;
+
     private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final EntityCounters entityCounters;
+    private final CollectionVersions collectionVersions;
+    private final TaskSearchIndex taskSearchIndex;
+    private final UserNameIndex userNameIndex;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository,
+                       TaskRepository taskRepository,
+                       EntityCounters entityCounters,
+                       CollectionVersions collectionVersions,
+                       TaskSearchIndex taskSearchIndex,
+                       UserNameIndex userNameIndex) {
         this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+        this.entityCounters = entityCounters;
+        this.collectionVersions = collectionVersions;
+        this.taskSearchIndex = taskSearchIndex;
+        this.userNameIndex = userNameIndex;
     }
 
     /**
@@ -34,51 +77,83 @@ public class UserService {
     public UserResponseDTO createUser(CreateUserDTO dto) {
         User user = dto.toEntity();
         User savedUser = userRepository.save(user);
+        entityCounters.userCreated();
+        collectionVersions.usersChanged();
+        userNameIndex.userSaved(savedUser.getId(), savedUser.getName(), savedUser.getEmail());
         return UserResponseDTO.fromEntity(savedUser);
     }
 
     /**
      * Update an existing user.
+     * Like TaskService.updateTask, the UPDATE is guarded by the user's @Version.
+     * Cached tasks embed their assignee, so the whole task cache is evicted with the user.
      *
-     * @param id  User ID to update
-     * @param dto Updated user data
+     * @param id      User ID to update
+     * @param dto     Updated user data
+     * @param ifMatch Optional If-Match header; the update only applies if it matches the current ETag
      * @return Updated user
      * @throws ResourceNotFoundException if user not found
+     * @throws PreconditionFailedException if ifMatch does not match the current ETag
+     * @throws OptimisticLockingFailureException if the user was changed concurrently
      */
-    public UserResponseDTO updateUser(Long id, CreateUserDTO dto) {
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.USERS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.TASKS, allEntries = true)
+    })
+    public UserResponseDTO updateUser(Long id, CreateUserDTO dto, String ifMatch) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+        ConditionalResponses.checkIfMatch(ifMatch, ConditionalResponses.eTag("user", id, user.getVersion()));
 
         user.setName(dto.getName());
         user.setEmail(dto.getEmail());
 
-        User updatedUser = userRepository.save(user);
+        // Flush now so the response carries the new updatedAt (set on flush by @PreUpdate)
+        User updatedUser = userRepository.saveAndFlush(user);
+        collectionVersions.usersChanged();
+        userNameIndex.userSaved(id, updatedUser.getName(), updatedUser.getEmail());
         return UserResponseDTO.fromEntity(updatedUser);
     }
 
     /**
-     * Delete a user by ID.
+     * Delete a user and all of their tasks.
+     * Runs two set-based statements however many tasks the user owns: one DELETE for
+     * the tasks and one for the user. Neither is loaded, so nothing cascades row by row.
+     * For users with very many tasks, UserPurger deletes them in the background instead.
+     * As in updateUser, the whole task cache is evicted with the user.
      *
      * @param id User ID to delete
      * @throws ResourceNotFoundException if user not found
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.USERS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.TASKS, allEntries = true)
+    })
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
+        taskRepository.deleteByUserId(id);
+        // No user row means nothing was deleted above either; the exception rolls back
+        if (userRepository.deleteUserById(id) == 0) {
             throw new ResourceNotFoundException("User not found with id: " + id);
         }
-        userRepository.deleteById(id);
+        entityCounters.userDeleted(id);
+        collectionVersions.usersChanged();
+        taskSearchIndex.userDeleted(id);
+        userNameIndex.userDeleted(id);
     }
 
     /**
      * Get a single user by ID.
+     * Results are cached by ID (read from the primary database) until the user changes.
      *
      * @param id User ID
      * @return User data
      * @throws ResourceNotFoundException if user not found
      */
+    @Cacheable(cacheNames = CacheConfig.USERS, key = "#id")
     @Transactional(readOnly = true)
     public UserResponseDTO getUserById(Long id) {
-        User user = userRepository.findById(id)
+        // Read from the primary: a replica's copy could trail the write that evicted it
+        User user = ReadYourWrites.onPrimary(() -> userRepository.findById(id))
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
         return UserResponseDTO.fromEntity(user);
     }
@@ -97,29 +172,89 @@ public class UserService {
         // Create a Pageable object with sorting by ID descending (newest first)
         Pageable pageable = PageRequest.of(page, size, Sort.by("id").descending());
 
-        Page<User> userPage;
+        // If name filter is provided and not empty, match it against the in-memory
+        // name index and load only the users on the requested page
+        if (name != null && !name.trim().isEmpty()) {
+            List<Long> ids = userNameIndex.findIdsByName(name);
+            int from = (int) Math.min(pageable.getOffset(), ids.size());
+            int to = Math.min(from + size, ids.size());
+            return new PageImpl<>(findResponsesInOrder(ids.subList(from, to)), pageable, ids.size());
+        }
+
+        // Otherwise, get all users (no COUNT; the total comes from the in-memory counters)
+        Slice<UserResponseDTO> slice = userRepository.findAllResponses(pageable);
+        return new PageImpl<>(slice.getContent(), pageable, entityCounters.getUserCount());
+    }
+
+    /**
+     * Get users using cursor-based (keyset) pagination with optional name filter.
+     * Unlike getAllUsers, this never counts the table and its cost does not grow with
+     * how deep the client has paged.
+     *
+     * @param name  Optional name filter (case-insensitive partial match)
+     * @param after Cursor returned by the previous call (null for the first page)
+     * @param limit Number of items per page (clamped to 1..MAX_LIMIT)
+     * @return Users plus the cursor for the next page
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<UserResponseDTO> getUsersAfter(String name, String after, int limit) {
+        int pageLimit = Math.max(1, Math.min(limit, CursorPage.MAX_LIMIT));
+        long cursor = CursorPage.decode(after);
+
+        // Fetch one extra row to find out whether there is a next page
+        Pageable pageable = PageRequest.ofSize(pageLimit + 1);
 
-        // If name filter is provided and not empty, use filtered query
+        List<UserResponseDTO> users;
         if (name != null && !name.trim().isEmpty()) {
-            userPage = userRepository.findByNameContainingIgnoreCase(name.trim(), pageable);
+            users = userRepository.findPageByNameBefore(name.trim(), cursor, pageable);
         } else {
-            // Otherwise, get all users
-            userPage = userRepository.findAll(pageable);
+            users = userRepository.findPageBefore(cursor, pageable);
         }
 
-        // Convert Page<User> to Page<UserResponseDTO>
-        // The map() method applies the conversion to each user in the page
-        return userPage.map(UserResponseDTO::fromEntity);
+        return CursorPage.of(users, pageLimit, UserResponseDTO::getId);
+    }
+
+    /**
+     * Suggest users for a typeahead / user picker.
+     * Served entirely from the in-memory name index; no database access.
+     *
+     * @param query What the user has typed so far (matched against name and email)
+     * @param limit Maximum number of suggestions (clamped to 1..MAX_SUGGESTIONS)
+     * @return Matching users (id and name only), name prefix matches first
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<UserSuggestionDTO> suggestUsers(String query, int limit) {
+        if (query == null || query.trim().isEmpty()) {
+            return List.of();
+        }
+        return userNameIndex.suggest(query, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
     }
 
     /**
      * Get total count of all users.
      * Useful for dashboard statistics.
+     * Served from the in-memory counters rather than a COUNT query.
      *
      * @return Total number of users
      */
     @Transactional(readOnly = true)
     public long getTotalUserCount() {
-        return userRepository.count();
+        return entityCounters.getUserCount();
+    }
+
+    /**
+     * Load users by ID, keeping the order of the given IDs.
+     * Skips users deleted since they were matched.
+     */
+    private List<UserResponseDTO> findResponsesInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, UserResponseDTO> usersById = userRepository.findResponsesByIdIn(ids).stream()
+                .collect(Collectors.toMap(UserResponseDTO::getId, Function.identity()));
+        return ids.stream()
+                .map(usersById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 }
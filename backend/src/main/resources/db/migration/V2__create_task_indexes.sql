@@ -0,0 +1,13 @@
+-- Indexes matching the query shapes in TaskRepository
+-- Every listing is ordered by id DESC (newest first), so id is the trailing column.
+
+-- findByStatus / findResponsesByStatus / findPageByStatusBefore:
+--   WHERE status = ? [AND id < ?] ORDER BY id DESC
+CREATE INDEX idx_tasks_status_id ON tasks (status, id DESC);
+
+-- Tasks of one assignee, newest first (also serves the user_id foreign key)
+CREATE INDEX idx_tasks_user_id_id ON tasks (user_id, id DESC);
+
+-- Due-date and creation-time range filters
+CREATE INDEX idx_tasks_due_date ON tasks (due_date);
+CREATE INDEX idx_tasks_created_at ON tasks (created_at);
@@ -1,6 +1,7 @@
 -- Sample Data for Task Management System
--- Spring Boot will automatically execute this on startup
--- Using MERGE instead of INSERT to make the script idempotent (safe to run multiple times)
+-- Applied once by Flyway after the schema migrations
+-- Using MERGE instead of INSERT so databases created before Flyway (which already
+-- contain these rows) can be baselined and migrated safely
 
 -- Sample Users
 MERGE INTO users (id, name, email, created_at) KEY(id) VALUES
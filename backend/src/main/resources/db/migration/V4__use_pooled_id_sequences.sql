@@ -0,0 +1,12 @@
+-- Switch users and tasks from IDENTITY to sequences so Hibernate can batch INSERTs.
+-- Hibernate uses the pooled-lo optimizer: each NEXT VALUE reserves a block of 50 ids
+-- starting at the returned value, so the sequences start right after the current rows.
+
+CREATE SEQUENCE users_seq START WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM users) INCREMENT BY 50;
+CREATE SEQUENCE tasks_seq START WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM tasks) INCREMENT BY 50;
+
+-- Plain SQL inserts without an id draw from the same sequences
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE users ALTER COLUMN id SET DEFAULT NEXT VALUE FOR users_seq;
+ALTER TABLE tasks ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE tasks ALTER COLUMN id SET DEFAULT NEXT VALUE FOR tasks_seq;
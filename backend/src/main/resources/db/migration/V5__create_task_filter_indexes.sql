@@ -0,0 +1,15 @@
+-- Indexes for the multi-criteria task filter (TaskFilterRepositoryImpl)
+
+-- WHERE priority IN (...) ORDER BY id DESC
+CREATE INDEX idx_tasks_priority_id ON tasks (priority, id DESC);
+
+-- Sorting by due date or creation time breaks ties on id in the same direction,
+-- so (column, id) serves both ascending and descending order as well as range filters
+DROP INDEX IF EXISTS idx_tasks_due_date;
+CREATE INDEX idx_tasks_due_date_id ON tasks (due_date, id);
+
+DROP INDEX IF EXISTS idx_tasks_created_at;
+CREATE INDEX idx_tasks_created_at_id ON tasks (created_at, id);
+
+-- WHERE updated_at > ? (polling for recent changes)
+CREATE INDEX idx_tasks_updated_at ON tasks (updated_at);
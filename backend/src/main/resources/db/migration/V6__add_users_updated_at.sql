@@ -0,0 +1,6 @@
+-- Track when a user last changed, for ETag / Last-Modified validators.
+-- Existing users are treated as unchanged since creation.
+
+ALTER TABLE users ADD COLUMN updated_at TIMESTAMP(6);
+UPDATE users SET updated_at = created_at;
+ALTER TABLE users ALTER COLUMN updated_at SET NOT NULL;
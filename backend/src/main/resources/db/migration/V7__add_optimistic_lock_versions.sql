@@ -0,0 +1,5 @@
+-- Version columns for optimistic locking (@Version on Task and User).
+-- Hibernate adds "AND version = ?" to every UPDATE/DELETE and increments the value.
+
+ALTER TABLE tasks ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE users ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,197 @@
+package uiowa.ais.interview.config;
+
+import jakarta.servlet.http.Cookie;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+import uiowa.ais.interview.counter.EntityCounters;
+import uiowa.ais.interview.routing.ReadYourWritesFilter;
+import uiowa.ais.interview.task.TaskSearchIndex;
+import uiowa.ais.interview.user.UserDTO.UserResponseDTO;
+import uiowa.ais.interview.user.UserRepository;
+import uiowa.ais.interview.user.UserService;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Read/write splitting over two embedded H2 databases.
+ *
+ * The "replica" gets the same migrations as the primary but no replication, so a row
+ * written to only one of them shows which database a read went to.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class ReplicaRoutingTests {
+
+    private static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    @DynamicPropertySource
+    static void replica(DynamicPropertyRegistry registry) {
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+        registry.add("app.replicas.urls", () -> REPLICA_URL);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private EntityCounters entityCounters;
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() {
+        String email = UUID.randomUUID() + "@example.com";
+        replica.update("INSERT INTO users (name, email, created_at, updated_at)"
+                + " VALUES ('Replica Only', ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", email);
+
+        assertThat(userService.getUsersAfter(null, null, 50).getContent())
+                .extracting(UserResponseDTO::getEmail).contains(email);
+        assertEquals(1, countUsers(email, true));
+        assertEquals(0, countUsers(email, false));
+        // Outside a transaction
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE email = ?", Long.class, email));
+    }
+
+    @Test
+    void clientReadsItsOwnWritesFromThePrimary() throws Exception {
+        String email = UUID.randomUUID() + "@example.com";
+
+        Cookie pin = mockMvc.perform(post("/api/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{ \"name\": \"Primary Only\", \"email\": \"" + email + "\" }"))
+                .andExpect(status().isCreated())
+                .andExpect(cookie().exists(ReadYourWritesFilter.COOKIE))
+                .andReturn().getResponse().getCookie(ReadYourWritesFilter.COOKIE);
+
+        // Another client reads the replica, which has not seen the write
+        mockMvc.perform(get("/api/users").param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(cookie().doesNotExist(ReadYourWritesFilter.COOKIE))
+                .andExpect(jsonPath("$.content[*].email", not(hasItem(email))));
+
+        // The writer is pinned to the primary and sees it
+        mockMvc.perform(get("/api/users").param("limit", "50").cookie(pin))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].email", hasItem(email)));
+
+        // Until the pin expires
+        mockMvc.perform(get("/api/users").param("limit", "50")
+                        .cookie(new Cookie(ReadYourWritesFilter.COOKIE, "0")))
+                .andExpect(jsonPath("$.content[*].email", not(hasItem(email))));
+    }
+
+    @Test
+    void cachesAreOnlyFilledFromThePrimary() {
+        // The same user on both databases, with the replica trailing a rename
+        long id = 900_001;
+        insertUser(jdbcTemplate, id, "Renamed On Primary");
+        insertUser(replica, id, "Stale On Replica");
+
+        // A replica read sees the old name but does not put it in the second-level cache
+        assertEquals("Stale On Replica", transaction(true).execute(status ->
+                userRepository.findById(id).orElseThrow().getName()));
+        assertEquals("Renamed On Primary", transaction(false).execute(status ->
+                userRepository.findById(id).orElseThrow().getName()));
+
+        // A cache miss on the user cache reads the primary, though it is read-only
+        assertEquals("Renamed On Primary", userService.getUserById(id).getName());
+    }
+
+    @Test
+    void replicaServedListsGetNoValidators() throws Exception {
+        mockMvc.perform(get("/api/users").param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+
+        mockMvc.perform(get("/api/users").param("limit", "50")
+                        .cookie(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(Long.MAX_VALUE))))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void countersAreRebuiltFromThePrimary() throws Exception {
+        jdbcTemplate.update("INSERT INTO tasks (title, status, priority, user_id, created_at, updated_at)"
+                + " VALUES ('Counted on the primary', 'TODO', 'LOW', 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        entityCounters.tasksChangedInBulk();
+
+        // The page is read from the replica first, then the stale counters are rebuilt
+        mockMvc.perform(get("/api/tasks").param("page", "0").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.totalElements")
+                        .value(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks", Integer.class)));
+    }
+
+    @Test
+    void searchIndexIsRebuiltFromThePrimary() throws Exception {
+        jdbcTemplate.update("INSERT INTO tasks (title, status, priority, user_id, created_at, updated_at)"
+                + " VALUES ('Primary only parsec', 'TODO', 'LOW', 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (!taskSearchIndex.rebuildInBackground() && System.nanoTime() < deadline) {
+            // The startup rebuild is still running
+            Thread.sleep(20);
+        }
+        while (taskSearchIndex.isRebuilding() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertFalse(taskSearchIndex.isRebuilding(), "search index rebuild did not finish");
+
+        assertEquals(1, taskSearchIndex.search("parsec", 0, 10).getTotal());
+    }
+
+    private static void insertUser(JdbcTemplate database, long id, String name) {
+        database.update("INSERT INTO users (id, name, email, created_at, updated_at)"
+                + " VALUES (?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", id, name, id + "@example.com");
+    }
+
+    private TransactionTemplate transaction(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        template.setReadOnly(readOnly);
+        return template;
+    }
+
+    private long countUsers(String email, boolean readOnly) {
+        return transaction(readOnly).execute(status ->
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE email = ?", Long.class, email));
+    }
+}
@@ -0,0 +1,226 @@
+package uiowa.ais.interview.config;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import uiowa.ais.interview.entity.Task;
+import uiowa.ais.interview.entity.TaskPriority;
+import uiowa.ais.interview.entity.TaskStatus;
+import uiowa.ais.interview.entity.User;
+import uiowa.ais.interview.task.TaskDTO.CreateTaskDTO;
+import uiowa.ais.interview.task.TaskDTO.TaskResponseDTO;
+import uiowa.ais.interview.task.TaskFilter;
+import uiowa.ais.interview.task.TaskRepository;
+import uiowa.ais.interview.user.UserRepository;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Every TaskRepository and UserRepository query runs on each storage profile in
+ * application.yml: in-memory H2, tuned file H2 and H2 in PostgreSQL mode.
+ * The file databases live in temporary directories, deleted after their class; the
+ * context is closed first so H2 has released the files.
+ */
+class StorageProfileTests {
+
+    @Nested
+    @SpringBootTest
+    @ActiveProfiles("storage-mem")
+    class InMemory extends RepositoryQueries {
+    }
+
+    @Nested
+    @SpringBootTest
+    @ActiveProfiles("storage-file")
+    @DirtiesContext
+    class TunedFile extends RepositoryQueries {
+
+        @TempDir
+        static Path databaseDir;
+
+        @DynamicPropertySource
+        static void storage(DynamicPropertyRegistry registry) {
+            registry.add("app.storage.h2.path", () -> databaseDir.resolve("interviewdb").toString());
+            // Exercise the non-default settings too
+            registry.add("app.storage.h2.compress", () -> "true");
+            registry.add("app.storage.h2.page-size", () -> "16384");
+            registry.add("app.search.index-dir", () -> "");
+        }
+    }
+
+    @Nested
+    @SpringBootTest
+    @ActiveProfiles("storage-postgres")
+    @DirtiesContext
+    class PostgresMode extends RepositoryQueries {
+
+        @TempDir
+        static Path databaseDir;
+
+        @DynamicPropertySource
+        static void storage(DynamicPropertyRegistry registry) {
+            registry.add("app.storage.h2.path", () -> databaseDir.resolve("interviewdb").toString());
+            registry.add("app.search.index-dir", () -> "");
+        }
+
+        @Test
+        void identifiersAreLowerCase() {
+            // As on PostgreSQL; in H2's default mode the table is named TASKS
+            assertEquals(1, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.tables WHERE table_name = 'tasks'", Integer.class));
+        }
+    }
+
+    /**
+     * The queries, run against the seed data plus a user created per test.
+     */
+    abstract static class RepositoryQueries {
+
+        private static final PageRequest FIRST_PAGE = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "id"));
+
+        @Autowired
+        TaskRepository taskRepository;
+
+        @Autowired
+        UserRepository userRepository;
+
+        @Autowired
+        TransactionTemplate transactionTemplate;
+
+        @Autowired
+        JdbcTemplate jdbcTemplate;
+
+        @Test
+        void taskReadQueries() {
+            assertThat(taskRepository.findAll(FIRST_PAGE).getContent()).hasSize(5);
+            assertThat(taskRepository.findByStatus(TaskStatus.TODO, FIRST_PAGE).getContent())
+                    .allMatch(task -> task.getStatus() == TaskStatus.TODO);
+            assertThat(taskRepository.findAllResponses(FIRST_PAGE).getContent()).hasSize(5);
+            assertThat(taskRepository.findResponsesByStatus(TaskStatus.DONE, FIRST_PAGE).getContent())
+                    .allMatch(task -> task.getStatus() == TaskStatus.DONE);
+            assertThat(taskRepository.findPageBefore(10L, PageRequest.ofSize(3)))
+                    .extracting(TaskResponseDTO::getId).containsExactly(9L, 8L, 7L);
+            assertThat(taskRepository.findPageByStatusBefore(TaskStatus.TODO, Long.MAX_VALUE, PageRequest.ofSize(3)))
+                    .hasSize(3);
+            assertThat(taskRepository.findResponsesByIdIn(List.of(1L, 2L))).hasSize(2);
+            assertThat(taskRepository.findStateById(1L)).isPresent();
+            assertThat(taskRepository.countGroupByStatus()).isNotEmpty();
+            assertThat(taskRepository.countGroupByUser()).isNotEmpty();
+            assertThat(taskRepository.findIdsByUserId(1L, PageRequest.of(0, 2))).containsExactly(1L, 2L);
+
+            long streamed = transactionTemplate.execute(status -> {
+                try (Stream<TaskResponseDTO> tasks = taskRepository.streamAllResponses()) {
+                    return tasks.count();
+                }
+            });
+            assertEquals(taskRepository.count(), streamed);
+        }
+
+        @Test
+        void taskFilterQueries() {
+            TaskFilter filter = new TaskFilter();
+            filter.setPriority(List.of(TaskPriority.HIGH));
+            filter.setDueTo(LocalDate.of(2024, 12, 31));
+
+            List<TaskResponseDTO> byDueDate = taskRepository.findResponses(
+                    filter, null, PageRequest.of(0, 20, TaskFilter.parseSort("dueDate,asc")));
+            assertThat(byDueDate).isNotEmpty().allMatch(task -> task.getPriority() == TaskPriority.HIGH);
+            assertThat(byDueDate).extracting(TaskResponseDTO::getDueDate).isSorted();
+            assertEquals(byDueDate.size(), taskRepository.countMatching(filter));
+            assertThat(taskRepository.findResponses(filter, 5L, PageRequest.ofSize(20)))
+                    .allMatch(task -> task.getId() < 5L);
+        }
+
+        @Test
+        void taskWriteQueries() {
+            User user = newUser();
+            User other = newUser();
+            Long taskId = newTask(user);
+            Long secondId = newTask(user);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                assertThat(taskRepository.updateStatusById(taskId, TaskStatus.IN_PROGRESS, now, 0L, user.getVersion()))
+                        .hasValueSatisfying(previous -> assertEquals(TaskStatus.TODO, previous.getStatus()));
+                // Stale versions write nothing
+                assertThat(taskRepository.updateStatusById(taskId, TaskStatus.DONE, now, 0L, null)).isEmpty();
+                assertThat(taskRepository.updateStatusById(taskId, TaskStatus.DONE, now, null, user.getVersion() + 1))
+                        .isEmpty();
+                assertThat(taskRepository.updateTaskById(taskId, new CreateTaskDTO("Renamed", null,
+                        TaskStatus.DONE, TaskPriority.LOW, null, other.getId()), now, 1L, null))
+                        .hasValueSatisfying(update -> {
+                            assertEquals(TaskStatus.IN_PROGRESS, update.getPrevious().getStatus());
+                            assertEquals(user.getId(), update.getPrevious().getUserId());
+                            assertEquals(2L, update.getUpdated().getVersion());
+                            assertEquals("Renamed", update.getUpdated().getTitle());
+                            assertEquals(other.getId(), update.getUpdated().getAssignedUser().getId());
+                        });
+                assertThat(taskRepository.updateStatusById(-1L, TaskStatus.DONE, now, null, null)).isEmpty();
+                assertThat(taskRepository.findStateById(taskId))
+                        .hasValueSatisfying(state -> assertEquals(TaskStatus.DONE, state.getStatus()));
+                assertEquals(1, taskRepository.reassignByIdIn(List.of(taskId), user, now));
+                assertEquals(1, taskRepository.updateStatusByIdIn(List.of(taskId, secondId), TaskStatus.DONE, now));
+                assertEquals(2, taskRepository.reassignByIdIn(List.of(taskId, secondId), other, now));
+
+                TaskFilter filter = new TaskFilter();
+                filter.setAssignedUserId(List.of(other.getId()));
+                assertEquals(2, taskRepository.updateStatusMatching(filter, TaskStatus.TODO, now));
+            });
+
+            transactionTemplate.executeWithoutResult(status -> {
+                assertThat(taskRepository.deleteTaskById(taskId))
+                        .hasValueSatisfying(previous -> assertEquals(other.getId(), previous.getUserId()));
+                assertThat(taskRepository.deleteTaskById(taskId)).isEmpty();
+                assertEquals(1, taskRepository.deleteByIdIn(List.of(secondId)));
+            });
+
+            Long third = newTask(user);
+            transactionTemplate.executeWithoutResult(status -> {
+                assertEquals(1, taskRepository.deleteByUserId(user.getId()));
+                assertEquals(1, userRepository.deleteUserById(user.getId()));
+            });
+            assertThat(taskRepository.findById(third)).isEmpty();
+        }
+
+        @Test
+        void userQueries() {
+            User user = newUser();
+
+            assertThat(userRepository.findAll(FIRST_PAGE).getContent()).isNotEmpty();
+            assertThat(userRepository.findByNameContainingIgnoreCase("ALICE", FIRST_PAGE).getContent()).hasSize(1);
+            assertThat(userRepository.findAllResponses(FIRST_PAGE).getContent()).isNotEmpty();
+            assertThat(userRepository.findResponsesByName("smith", FIRST_PAGE).getTotalElements()).isEqualTo(1);
+            assertThat(userRepository.findPageBefore(3L, PageRequest.ofSize(5))).hasSize(2);
+            assertThat(userRepository.findPageByNameBefore("o", Long.MAX_VALUE, PageRequest.ofSize(5))).isNotEmpty();
+            assertThat(userRepository.findResponsesByIdIn(List.of(1L, user.getId()))).hasSize(2);
+            assertThat(userRepository.findAllResponses()).hasSizeGreaterThanOrEqualTo(5);
+        }
+
+        private User newUser() {
+            return userRepository.save(new User("Storage User", UUID.randomUUID() + "@example.com"));
+        }
+
+        private Long newTask(User user) {
+            return taskRepository.save(new Task("Storage task", "Checks the storage profile",
+                    TaskStatus.TODO, TaskPriority.MEDIUM, LocalDate.now(), user)).getId();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package uiowa.ais.interview.load;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import uiowa.ais.interview.Application;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Finds the throughput knee of GET /api/tasks across connection pool sizes.
+ *
+ * For each size in load.poolSizes (default 2,4,8,16,32) the full application boots on
+ * a random port against its own file-based H2 database seeded with load.tasks rows, with
+ * a fixed-size pool (spring.datasource.hikari.maximum-pool-size = minimum-idle), then
+ * serves load.requests list requests over different pages with load.concurrency in
+ * flight. Run with ./gradlew loadTest -Dload.poolSizes=4,8,16.
+ *
+ * The printed table has latency and throughput per size, plus the mean and max time
+ * requests waited for a connection (the hikaricp.connections.acquire timer).
+ * How to read it:
+ * - Below the knee, adding connections raises req/s and the acquire wait is most of p50.
+ * - At the knee, req/s stops rising and the acquire wait drops to near zero.
+ * - Past the knee, req/s stays flat or falls while p99 grows. The requests now queue
+ *   inside H2, which runs statements on one database largely one at a time, instead of
+ *   in the pool.
+ * Pick the smallest size at the knee for spring.datasource.hikari.maximum-pool-size.
+ * With 4-8 cores this is typically 8-16, which is where the pool-tuned profile sits.
+ */
+@Tag("load")
+class ConnectionPoolLoadTest {
+
+    private static final int TASKS = Integer.getInteger("load.tasks", 50_000);
+    private static final int REQUESTS = Integer.getInteger("load.requests", 5_000);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 200);
+    private static final int[] POOL_SIZES = Arrays.stream(System.getProperty("load.poolSizes", "2,4,8,16,32").split(","))
+            .mapToInt(size -> Integer.parseInt(size.trim()))
+            .toArray();
+    private static final int WARMUP_REQUESTS = 500;
+    private static final int PAGES = 100;
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    void findThroughputKnee() throws Exception {
+        List<PoolResult> results = new ArrayList<>();
+        for (int poolSize : POOL_SIZES) {
+            results.add(run(poolSize));
+        }
+
+        System.out.printf("%nGET /api/tasks: %d requests, %d concurrent, %d tasks, virtual threads%n",
+                REQUESTS, CONCURRENCY, TASKS);
+        System.out.printf("%-6s %10s %10s %10s %12s %16s %16s%n",
+                "pool", "p50 (ms)", "p99 (ms)", "max (ms)", "req/s", "acquire avg (ms)", "acquire max (ms)");
+        for (PoolResult result : results) {
+            HttpLoad.Result load = result.load();
+            System.out.printf("%-6d %10.1f %10.1f %10.1f %12.0f %16.2f %16.1f%n",
+                    result.poolSize(), load.percentile(50), load.percentile(99), load.percentile(100),
+                    load.throughput(), result.acquireMeanMillis(), result.acquireMaxMillis());
+        }
+
+        for (PoolResult result : results) {
+            assertEquals(0, result.load().failures(), "failed requests (pool size " + result.poolSize() + ")");
+        }
+    }
+
+    private PoolResult run(int poolSize) throws Exception {
+        String url = "jdbc:h2:file:" + dataDir.resolve("pool-" + poolSize).toAbsolutePath();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + url,
+                        "spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                        "spring.datasource.hikari.minimum-idle=" + poolSize,
+                        "spring.datasource.hikari.connection-timeout=30000",
+                        "spring.datasource.hikari.leak-detection-threshold=0",
+                        "spring.jpa.show-sql=false",
+                        // Unbounded request concurrency, so the pool is the only limit
+                        "spring.threads.virtual.enabled=true")
+                .run()) {
+            HttpLoad.seedTasks(context, TASKS);
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            HttpClient client = HttpLoad.newClient();
+
+            HttpLoad.fire(client, index -> page(port, index), WARMUP_REQUESTS, CONCURRENCY);
+            Timer acquire = context.getBean(MeterRegistry.class).get("hikaricp.connections.acquire").timer();
+            long countBefore = acquire.count();
+            double totalBefore = acquire.totalTime(TimeUnit.MILLISECONDS);
+
+            HttpLoad.Result load = HttpLoad.fire(client, index -> page(port, index), REQUESTS, CONCURRENCY);
+
+            long acquired = acquire.count() - countBefore;
+            double waited = acquire.totalTime(TimeUnit.MILLISECONDS) - totalBefore;
+            return new PoolResult(poolSize, load,
+                    acquired == 0 ? 0 : waited / acquired, acquire.max(TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private static URI page(int port, int index) {
+        // Spread requests over many pages, as a board with many readers would
+        return URI.create("http://localhost:" + port + "/api/tasks?page=" + (index % PAGES) + "&size=20");
+    }
+
+    private record PoolResult(int poolSize, HttpLoad.Result load, double acquireMeanMillis, double acquireMaxMillis) {
+    }
+}
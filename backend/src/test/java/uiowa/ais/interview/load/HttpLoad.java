@@ -0,0 +1,115 @@
+package uiowa.ais.interview.load;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import uiowa.ais.interview.counter.EntityCounters;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Shared driver for the load tests: seeds tasks and fires HTTP requests with a fixed
+ * number in flight, recording each request's latency.
+ */
+final class HttpLoad {
+
+    private HttpLoad() {
+    }
+
+    static HttpClient newClient() {
+        return HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    /**
+     * Insert tasks spread over the four seed users and rebuild the counters.
+     */
+    static void seedTasks(ConfigurableApplicationContext context, int tasks) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("""
+                INSERT INTO tasks (title, description, status, priority, due_date, user_id, created_at, updated_at)
+                SELECT 'Load task ' || X, 'Generated by a load test', 'TODO', 'MEDIUM',
+                       CURRENT_DATE, MOD(X, 4) + 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)
+                """, tasks);
+        context.getBean(EntityCounters.class).reconcile();
+    }
+
+    /**
+     * GET the same URI requests times with concurrency requests in flight.
+     */
+    static Result fire(HttpClient client, URI uri, int requests, int concurrency) throws Exception {
+        return fire(client, index -> uri, requests, concurrency);
+    }
+
+    /**
+     * GET uris.apply(i) for i in [0, requests) with concurrency requests in flight.
+     * Any status other than 200 counts as a failure.
+     */
+    static Result fire(HttpClient client, IntFunction<URI> uris, int requests, int concurrency) throws Exception {
+        long[] latencies = new long[requests];
+        AtomicInteger failures = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(concurrency);
+
+        long started = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                int index = i;
+                HttpRequest request = HttpRequest.newBuilder(uris.apply(i)).timeout(Duration.ofSeconds(60)).GET().build();
+                inFlight.acquire();
+                futures.add(executor.submit(() -> {
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception ex) {
+                        failures.incrementAndGet();
+                    } finally {
+                        latencies[index] = System.nanoTime() - start;
+                        inFlight.release();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+        return new Result(null, latencies, failures.get(), elapsed);
+    }
+
+    record Result(String label, long[] latencies, int failures, long elapsedNanos) {
+
+        Result withLabel(String label) {
+            return new Result(label, latencies, failures, elapsedNanos);
+        }
+
+        double percentile(double percentile) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        double throughput() {
+            return latencies.length / (elapsedNanos / 1_000_000_000.0);
+        }
+    }
+}
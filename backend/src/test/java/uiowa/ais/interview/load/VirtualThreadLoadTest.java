@@ -0,0 +1,70 @@
+package uiowa.ais.interview.load;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import uiowa.ais.interview.Application;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares GET /api/tasks latency with platform-thread and virtual-thread request handling.
+ *
+ * Each mode boots the full application on a random port against its own file-based H2
+ * database seeded with load.tasks rows, then fires load.requests requests with
+ * load.concurrency in flight. Results are printed as a table; the test only fails if
+ * requests fail. Run with ./gradlew loadTest.
+ */
+@Tag("load")
+class VirtualThreadLoadTest {
+
+    private static final int TASKS = Integer.getInteger("load.tasks", 50_000);
+    private static final int REQUESTS = Integer.getInteger("load.requests", 5_000);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 400);
+    private static final int WARMUP_REQUESTS = 500;
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    void compareTaskListLatency() throws Exception {
+        HttpLoad.Result platform = run("platform", false);
+        HttpLoad.Result virtual = run("virtual", true);
+
+        System.out.printf("%nGET /api/tasks: %d requests, %d concurrent, %d tasks%n", REQUESTS, CONCURRENCY, TASKS);
+        System.out.printf("%-10s %10s %10s %10s %12s%n", "mode", "p50 (ms)", "p99 (ms)", "max (ms)", "req/s");
+        for (HttpLoad.Result result : List.of(platform, virtual)) {
+            System.out.printf("%-10s %10.1f %10.1f %10.1f %12.0f%n",
+                    result.label(), result.percentile(50), result.percentile(99), result.percentile(100), result.throughput());
+        }
+
+        assertEquals(0, platform.failures(), "failed requests (platform threads)");
+        assertEquals(0, virtual.failures(), "failed requests (virtual threads)");
+    }
+
+    private HttpLoad.Result run(String mode, boolean virtualThreads) throws Exception {
+        String url = "jdbc:h2:file:" + dataDir.resolve(mode).toAbsolutePath();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + url,
+                        "spring.jpa.show-sql=false",
+                        "spring.threads.virtual.enabled=" + virtualThreads)
+                .run()) {
+            HttpLoad.seedTasks(context, TASKS);
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            URI uri = URI.create("http://localhost:" + port + "/api/tasks?page=5&size=20");
+
+            HttpClient client = HttpLoad.newClient();
+            HttpLoad.fire(client, uri, WARMUP_REQUESTS, CONCURRENCY);
+            return HttpLoad.fire(client, uri, REQUESTS, CONCURRENCY).withLabel(mode);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package uiowa.ais.interview.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The connection pool is configured from application.yml and its metrics are published,
+ * even though the DataSource bean is wrapped by datasource-proxy.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:pool-metrics;DB_CLOSE_DELAY=-1")
+class PoolMetricsTests {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void poolSizeAndWaitTimesArePublished() {
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks", Long.class);
+
+        assertEquals(10, meterRegistry.get("hikaricp.connections.max")
+                .tag("pool", "interview-pool").gauge().value());
+        assertThat(meterRegistry.get("hikaricp.connections.pending")
+                .tag("pool", "interview-pool").gauge().value()).isZero();
+        assertThat(meterRegistry.get("hikaricp.connections.acquire")
+                .tag("pool", "interview-pool").timer().count()).isPositive();
+    }
+}
@@ -0,0 +1,36 @@
+package uiowa.ais.interview.monitoring;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails the annotated test if it executes more than the given number of SQL statements.
+ *
+ * Only the test method body is measured (not @BeforeEach setup). Statements run by
+ * MockMvc requests count, since MockMvc executes on the test thread. Statements on
+ * other threads do not: the body of a StreamingResponseBody (the task export) and
+ * UserPurger's background chunks are not measured, as in RequestMetricsFilter.
+ *
+ * Example:
+ * <pre>
+ * &#64;Test
+ * &#64;QueryBudget(1)
+ * void listTasks() throws Exception {
+ *     mockMvc.perform(get("/api/tasks")).andExpect(status().isOk());
+ * }
+ * </pre>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    /**
+     * Maximum number of SQL statements the test may execute.
+     */
+    int value();
+}
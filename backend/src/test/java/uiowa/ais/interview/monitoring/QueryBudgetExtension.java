@@ -0,0 +1,37 @@
+package uiowa.ais.interview.monitoring;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * JUnit extension behind @QueryBudget.
+ * Opens a SqlStatementTracker scope around the test method and compares the count.
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        if (budgetOf(context) != null) {
+            SqlStatementTracker.begin();
+        }
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryBudget budget = budgetOf(context);
+        if (budget == null) {
+            return;
+        }
+        SqlStatementTracker.Summary summary = SqlStatementTracker.end();
+        if (summary.getStatements() > budget.value()) {
+            throw new AssertionFailedError(String.format("Expected at most %d SQL statements but %d were executed:%s",
+                    budget.value(), summary.getStatements(), summary.describeShapes()));
+        }
+    }
+
+    private static QueryBudget budgetOf(ExtensionContext context) {
+        return context.getRequiredTestMethod().getAnnotation(QueryBudget.class);
+    }
+}
@@ -0,0 +1,88 @@
+package uiowa.ais.interview.task;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionTemplate;
+import uiowa.ais.interview.entity.Task;
+import uiowa.ais.interview.entity.TaskStatus;
+import uiowa.ais.interview.monitoring.SqlStatementTracker;
+import uiowa.ais.interview.user.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Second-level cache for User and Task, and the query cache for findByStatus.
+ * Every repository call outside a transaction gets a fresh persistence context, so
+ * repeated loads can only be served by the shared caches.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:hibernate-cache;DB_CLOSE_DELAY=-1")
+class HibernateCacheTests {
+
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 20, Sort.by("id"));
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void userIsLoadedFromSecondLevelCache() {
+        userRepository.findById(2L).orElseThrow();
+        long hitsBefore = statistics.getDomainDataRegionStatistics("users").getHitCount();
+
+        long statements = statementsFor(() -> userRepository.findById(2L).orElseThrow());
+
+        assertEquals(0, statements);
+        assertEquals(hitsBefore + 1, statistics.getDomainDataRegionStatistics("users").getHitCount());
+    }
+
+    @Test
+    void findByStatusIsServedFromQueryCacheUntilTasksChange() {
+        taskRepository.findByStatus(TaskStatus.DONE, FIRST_PAGE);
+        long hitsBefore = statistics.getQueryCacheHitCount();
+
+        // Task ids from the query cache, the tasks themselves from the second-level cache
+        long statements = statementsFor(() -> taskRepository.findByStatus(TaskStatus.DONE, FIRST_PAGE));
+        assertEquals(0, statements);
+        assertTrue(statistics.getQueryCacheHitCount() > hitsBefore);
+
+        // A write to the tasks table invalidates the cached results
+        transactionTemplate.executeWithoutResult(status ->
+                taskRepository.updateStatusByIdIn(List.of(3L), TaskStatus.DONE, LocalDateTime.now()));
+        long missesBefore = statistics.getQueryCacheMissCount();
+        List<Long> done = taskRepository.findByStatus(TaskStatus.DONE, FIRST_PAGE).map(Task::getId).getContent();
+        assertTrue(statistics.getQueryCacheMissCount() > missesBefore);
+        assertTrue(done.contains(3L));
+    }
+
+    private long statementsFor(Runnable action) {
+        SqlStatementTracker.begin();
+        action.run();
+        return SqlStatementTracker.end().getStatements();
+    }
+}
@@ -0,0 +1,94 @@
+package uiowa.ais.interview.task;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import uiowa.ais.interview.monitoring.SqlStatementTracker;
+import uiowa.ais.interview.task.TaskDTO.TaskResponseDTO;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * POST /api/tasks/batch: JDBC-batched inserts with ids from the pooled sequence.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:task-batch-create;DB_CLOSE_DELAY=-1",
+        "app.batch.size=50"
+})
+@AutoConfigureMockMvc
+class TaskBatchCreateTests {
+
+    private static final int TASKS = 120;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void insertsInJdbcBatchesAndReturnsIdsInRequestOrder() throws Exception {
+        long countBefore = taskRepository.count();
+
+        SqlStatementTracker.begin();
+        String response = mockMvc.perform(post("/api/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch(TASKS, 2)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(TASKS))
+                .andReturn().getResponse().getContentAsString();
+        SqlStatementTracker.Summary summary = SqlStatementTracker.end();
+
+        // 120 rows in batches of 50: three round trips, not one per task
+        assertEquals(3, summary.getShapes().entrySet().stream()
+                .filter(shape -> shape.getKey().toLowerCase().startsWith("insert into tasks"))
+                .mapToInt(Map.Entry::getValue)
+                .sum(), summary.describeShapes());
+
+        List<Number> ids = JsonPath.read(response, "$[*].id");
+        List<String> titles = JsonPath.read(response, "$[*].title");
+        assertThat(ids).doesNotHaveDuplicates();
+        assertEquals(IntStream.range(0, TASKS).mapToObj(i -> "Batch task " + i).toList(), titles);
+
+        assertEquals(countBefore + TASKS, taskRepository.count());
+        Map<Long, String> stored = taskRepository.findResponsesByIdIn(ids.stream().map(Number::longValue).toList())
+                .stream()
+                .collect(Collectors.toMap(TaskResponseDTO::getId, TaskResponseDTO::getTitle));
+        assertEquals(TASKS, stored.size());
+        assertEquals("Batch task 0", stored.get(ids.get(0).longValue()));
+    }
+
+    @Test
+    void unknownAssigneeIs404AndInsertsNothing() throws Exception {
+        long countBefore = taskRepository.count();
+
+        mockMvc.perform(post("/api/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch(3, 999)))
+                .andExpect(status().isNotFound());
+
+        assertEquals(countBefore, taskRepository.count());
+    }
+
+    private static String batch(int size, long assignedUserId) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> """
+                        { "title": "Batch task %d", "description": "Imported", "status": "TODO",
+                          "priority": "LOW", "dueDate": "2030-01-01", "assignedUserId": %d }"""
+                        .formatted(i, assignedUserId))
+                .collect(Collectors.joining(",", "{ \"tasks\": [", "] }"));
+    }
+}
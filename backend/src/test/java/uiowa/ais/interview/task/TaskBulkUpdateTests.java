@@ -0,0 +1,153 @@
+package uiowa.ais.interview.task;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import uiowa.ais.interview.entity.TaskStatus;
+import uiowa.ais.interview.monitoring.QueryBudget;
+import uiowa.ais.interview.task.TaskDTO.TaskResponseDTO;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Bulk status and reassignment endpoints.
+ * Each test works on a different seed user's tasks, so they do not depend on order.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:task-bulk-update;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class TaskBulkUpdateTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void updatesStatusByIdsAndSkipsUnchanged() throws Exception {
+        // Alice's tasks: 1 is already DONE
+        Map<Long, Long> versionsBefore = versions(List.of(1L, 2L, 3L));
+
+        mockMvc.perform(post("/api/tasks/bulk/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "ids": [1, 2, 3], "status": "DONE" }
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(2));
+
+        List<TaskResponseDTO> tasks = taskRepository.findResponsesByIdIn(List.of(1L, 2L, 3L));
+        assertThat(tasks).allMatch(task -> task.getStatus() == TaskStatus.DONE);
+        assertThat(versions(List.of(1L))).containsEntry(1L, versionsBefore.get(1L));
+        assertThat(versions(List.of(2L))).containsEntry(2L, versionsBefore.get(2L) + 1);
+
+        // The cached detail view was evicted
+        mockMvc.perform(get("/api/tasks/{id}", 2))
+                .andExpect(jsonPath("$.status").value("DONE"));
+    }
+
+    @Test
+    @QueryBudget(1)
+    void updatesStatusByFilterInOneStatement() throws Exception {
+        // Carol's tasks: 10 IN_PROGRESS, 11 TODO
+        mockMvc.perform(post("/api/tasks/bulk/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "filter": { "status": ["TODO", "IN_PROGRESS"], "assignedUserId": [3] },
+                                  "status": "DONE" }
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(2));
+    }
+
+    @Test
+    void reassignsByFilterAndKeepsCountersExact() throws Exception {
+        // David's four tasks move to Bob, who has four of his own
+        mockMvc.perform(post("/api/tasks/bulk/reassign")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "filter": { "assignedUserId": [4] }, "assignedUserId": 2 }
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(4));
+
+        mockMvc.perform(get("/api/tasks/count").param("assignedUserId", "4"))
+                .andExpect(content().string("0"));
+        mockMvc.perform(get("/api/tasks/count").param("assignedUserId", "2"))
+                .andExpect(content().string("8"));
+
+        Map<TaskStatus, Long> expected = taskRepository.countGroupByStatus().stream()
+                .collect(Collectors.toMap(TaskRepository.StatusCount::getStatus, TaskRepository.StatusCount::getTotal));
+        assertThat(taskService.getTaskCountsByStatus()).containsAllEntriesOf(expected);
+    }
+
+    @Test
+    void reassignsByIdsSkippingTasksAlreadyAssigned() throws Exception {
+        // Carol's tasks 9 and 10 move to Alice; a second request has nothing to move
+        Map<Long, Long> versionsBefore = versions(List.of(9L, 10L));
+        for (int expected : new int[] {2, 0}) {
+            mockMvc.perform(post("/api/tasks/bulk/reassign")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                    { "ids": [9, 10], "assignedUserId": 1 }
+                                    """))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.updated").value(expected));
+        }
+
+        assertThat(taskRepository.findResponsesByIdIn(List.of(9L, 10L)))
+                .allMatch(task -> task.getAssignedUser().getId() == 1L);
+        assertThat(versions(List.of(9L, 10L))).containsEntry(9L, versionsBefore.get(9L) + 1);
+
+        // Re-indexed after commit, not dropped from the search index
+        assertThat(taskService.searchTasks("landing", 0, 10).getContent())
+                .extracting(TaskResponseDTO::getId).containsExactly(9L);
+    }
+
+    @Test
+    void rejectsMissingOrAmbiguousSelection() throws Exception {
+        mockMvc.perform(post("/api/tasks/bulk/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "status": "DONE" }
+                                """))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/tasks/bulk/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "ids": [5], "filter": { "assignedUserId": [2] }, "status": "DONE" }
+                                """))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void reassignToUnknownUserIs404() throws Exception {
+        mockMvc.perform(post("/api/tasks/bulk/reassign")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "ids": [5], "assignedUserId": 999 }
+                                """))
+                .andExpect(status().isNotFound());
+    }
+
+    private Map<Long, Long> versions(List<Long> ids) {
+        return taskRepository.findResponsesByIdIn(ids).stream()
+                .collect(Collectors.toMap(TaskResponseDTO::getId, TaskResponseDTO::getVersion));
+    }
+}
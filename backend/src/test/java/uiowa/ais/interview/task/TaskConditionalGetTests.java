@@ -0,0 +1,172 @@
+package uiowa.ais.interview.task;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import uiowa.ais.interview.counter.CollectionVersions;
+import uiowa.ais.interview.monitoring.QueryBudget;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ETag / If-None-Match handling on the task endpoints. There is no Last-Modified.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:task-conditional-get;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class TaskConditionalGetTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    @Test
+    void unchangedTaskAnswers304() throws Exception {
+        String eTag = mockMvc.perform(get("/api/tasks/{id}", 3))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).startsWith("\"task-3-");
+
+        mockMvc.perform(get("/api/tasks/{id}", 3).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void updatedTaskGetsNewETag() throws Exception {
+        String before = mockMvc.perform(get("/api/tasks/{id}", 4))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(put("/api/tasks/{id}", 4)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "title": "Conditional GET test",
+                                  "description": "Updated by TaskConditionalGetTests",
+                                  "status": "IN_PROGRESS",
+                                  "priority": "LOW",
+                                  "dueDate": "2030-01-01",
+                                  "assignedUserId": 1
+                                }
+                                """))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/tasks/{id}", 4).header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(before)));
+    }
+
+    @Test
+    void secondUpdateInTheSameSecondIsNotHiddenByIfModifiedSince() throws Exception {
+        mockMvc.perform(patch("/api/tasks/{id}", 8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "status": "IN_PROGRESS" }
+                                """))
+                .andExpect(status().isOk());
+        // What a client that saw the first update would send: an HTTP date, whole seconds
+        String seen = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC));
+        mockMvc.perform(patch("/api/tasks/{id}", 8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "status": "DONE" }
+                                """))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/tasks/{id}", 8).header(HttpHeaders.IF_MODIFIED_SINCE, seen))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+                .andExpect(jsonPath("$.status").value("DONE"));
+        mockMvc.perform(get("/api/users/{id}", 1).header(HttpHeaders.IF_MODIFIED_SINCE, seen))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @Test
+    void patchReturnsOnlyChangedFieldsAndCurrentETag() throws Exception {
+        String before = mockMvc.perform(get("/api/tasks/{id}", 7))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        String patched = mockMvc.perform(patch("/api/tasks/{id}", 7)
+                        .header(HttpHeaders.IF_MATCH, before)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "priority": "HIGH", "status": "TODO" }
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(7))
+                .andExpect(jsonPath("$.status").value("TODO"))
+                .andExpect(jsonPath("$.version").exists())
+                .andExpect(jsonPath("$.title").doesNotExist())
+                .andExpect(jsonPath("$.assignedUserId").doesNotExist())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(patched).isNotEqualTo(before);
+
+        // The PATCH response ETag is the one a fresh GET would send
+        mockMvc.perform(get("/api/tasks/{id}", 7).header(HttpHeaders.IF_NONE_MATCH, patched))
+                .andExpect(status().isNotModified());
+
+        // The old ETag no longer matches
+        mockMvc.perform(patch("/api/tasks/{id}", 7)
+                        .header(HttpHeaders.IF_MATCH, before)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "status": "IN_PROGRESS" }
+                                """))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @QueryBudget(0)
+    void unchangedListAnswers304WithoutQueries() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("page", "0").param("size", "10")
+                        .header(HttpHeaders.IF_NONE_MATCH, collectionVersions.getTasksETag()))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void listETagChangesAfterWrite() throws Exception {
+        String before = collectionVersions.getTasksETag();
+
+        mockMvc.perform(put("/api/users/{id}", 2)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "name": "Bob Smith", "email": "bob.smith+etag@example.com" }
+                                """))
+                .andExpect(status().isOk());
+
+        // Tasks embed their assignee, so a user change invalidates task lists too
+        mockMvc.perform(get("/api/tasks").header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, collectionVersions.getTasksETag()));
+    }
+
+    @Test
+    void listsHaveNoLastModified() throws Exception {
+        // Whole-second HTTP dates could not tell two writes in the same second apart
+        mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED));
+
+        mockMvc.perform(get("/api/tasks").header(HttpHeaders.IF_MODIFIED_SINCE, "Fri, 31 Dec 9999 23:59:59 GMT"))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,163 @@
+package uiowa.ais.interview.task;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import uiowa.ais.interview.monitoring.QueryBudget;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Query budgets for the TaskController endpoints.
+ * A failing budget prints the SQL shapes that ran; repeated shapes point at an N+1.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:task-controller-budget;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class TaskControllerQueryBudgetTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @QueryBudget(1)
+    void listTasks() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("page", "0").param("size", "10"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(1)
+    void listTasksByStatus() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("status", "TODO").param("size", "10"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(2)
+    void listTasksWithCombinedFilters() throws Exception {
+        // One filtered SELECT plus at most one COUNT for the totals
+        mockMvc.perform(get("/api/tasks")
+                        .param("status", "TODO,IN_PROGRESS")
+                        .param("priority", "HIGH")
+                        .param("assignedUserId", "1,2")
+                        .param("dueTo", "2030-12-31")
+                        .param("sort", "dueDate,asc")
+                        .param("size", "2"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void rejectsSortOnUnindexedColumn() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("sort", "title"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @QueryBudget(1)
+    void listTasksWithCursor() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("limit", "10"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(2)
+    void getTask() throws Exception {
+        mockMvc.perform(get("/api/tasks/{id}", 1))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(0)
+    void countTasks() throws Exception {
+        mockMvc.perform(get("/api/tasks/count/by-status"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(3)
+    void createTask() throws Exception {
+        mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "title": "Budget test",
+                                  "description": "Created by TaskControllerQueryBudgetTests",
+                                  "status": "TODO",
+                                  "priority": "LOW",
+                                  "dueDate": "2030-01-01",
+                                  "assignedUserId": 1
+                                }
+                                """))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @QueryBudget(2)
+    void patchTaskStatus() throws Exception {
+        // The previous status, then one version-guarded UPDATE; no entity loads
+        mockMvc.perform(patch("/api/tasks/{id}", 2)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "status": "IN_PROGRESS" }
+                                """))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(3)
+    void updateTask() throws Exception {
+        // Previous state, version-guarded UPDATE, then the new row with its assignee
+        mockMvc.perform(put("/api/tasks/{id}", 3)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "title": "Budget test",
+                                  "description": "Updated by TaskControllerQueryBudgetTests",
+                                  "status": "IN_PROGRESS",
+                                  "priority": "LOW",
+                                  "dueDate": "2030-01-01",
+                                  "assignedUserId": 2
+                                }
+                                """))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void updateTaskWithUnknownAssigneeIs404() throws Exception {
+        mockMvc.perform(put("/api/tasks/{id}", 3)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "title": "Budget test",
+                                  "description": "Updated by TaskControllerQueryBudgetTests",
+                                  "status": "IN_PROGRESS",
+                                  "priority": "LOW",
+                                  "dueDate": "2030-01-01",
+                                  "assignedUserId": 999
+                                }
+                                """))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @QueryBudget(2)
+    void deleteTask() throws Exception {
+        // Previous state for the counters, then a version-guarded DELETE
+        mockMvc.perform(delete("/api/tasks/{id}", 15))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void deleteUnknownTaskIs404() throws Exception {
+        mockMvc.perform(delete("/api/tasks/{id}", 999_999))
+                .andExpect(status().isNotFound());
+    }
+}
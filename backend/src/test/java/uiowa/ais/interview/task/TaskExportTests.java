@@ -0,0 +1,93 @@
+package uiowa.ais.interview.task;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import uiowa.ais.interview.entity.TaskPriority;
+import uiowa.ais.interview.entity.TaskStatus;
+import uiowa.ais.interview.task.TaskDTO.CreateTaskDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * GET /api/tasks/export: every task once, as NDJSON or CSV.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:task-export;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class TaskExportTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void exportsEveryTaskAsOneJsonObjectPerLine() throws Exception {
+        List<String> lines = export("ndjson", "application/x-ndjson");
+
+        assertEquals(taskRepository.count(), lines.size());
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertEquals(1, first.get("id").asLong());
+        assertEquals("Setup development environment", first.get("title").asText());
+        assertEquals("Alice Johnson", first.at("/assignedUser/name").asText());
+        assertThat(lines).extracting(line -> objectMapper.readTree(line).get("id").asLong())
+                .doesNotHaveDuplicates()
+                .isSorted();
+    }
+
+    @Test
+    void exportsEveryTaskAsCsvRowAfterTheHeader() throws Exception {
+        mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateTaskDTO("Quotes \"and\", commas",
+                                "Exported as CSV", TaskStatus.TODO, TaskPriority.LOW, LocalDate.of(2030, 1, 1), 1L))))
+                .andExpect(status().isCreated());
+
+        List<String> lines = export("csv", "text/csv");
+
+        assertEquals("id,title,description,status,priority,dueDate,assignedUserId,assignedUserName,createdAt",
+                lines.get(0));
+        assertEquals(taskRepository.count(), lines.size() - 1);
+        assertThat(lines.get(1)).startsWith("1,Setup development environment,");
+        // Quoted as RFC 4180 requires
+        assertThat(lines).anyMatch(line -> line.contains(",\"Quotes \"\"and\"\", commas\",Exported as CSV,TODO,LOW,"));
+    }
+
+    @Test
+    void unknownFormatIs400() throws Exception {
+        mockMvc.perform(get("/api/tasks/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<String> export(String format, String contentType) throws Exception {
+        // The body is a StreamingResponseBody, written on an async thread
+        MvcResult started = mockMvc.perform(get("/api/tasks/export").param("format", format))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(contentType))
+                .andReturn().getResponse().getContentAsString();
+        return body.lines().toList();
+    }
+}
@@ -0,0 +1,62 @@
+package uiowa.ais.interview.task;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies via EXPLAIN that H2 answers the TaskRepository query shapes from the
+ * indexes created in V2__create_task_indexes.sql and V5__create_task_filter_indexes.sql
+ * instead of scanning the table.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:task-index-usage;DB_CLOSE_DELAY=-1")
+class TaskIndexUsageTests {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void statusFilterUsesStatusIndex() {
+        String plan = explain("SELECT * FROM tasks WHERE status = 'TODO' ORDER BY id DESC LIMIT 10");
+
+        assertThat(plan).containsIgnoringCase("IDX_TASKS_STATUS_ID");
+        assertThat(plan).doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void statusKeysetPageUsesStatusIndex() {
+        String plan = explain("SELECT * FROM tasks WHERE status = 'TODO' AND id < 100 ORDER BY id DESC LIMIT 10");
+
+        assertThat(plan).containsIgnoringCase("IDX_TASKS_STATUS_ID");
+    }
+
+    @Test
+    void assigneeFilterDoesNotScanTable() {
+        String plan = explain("SELECT * FROM tasks WHERE user_id = 1 ORDER BY id DESC LIMIT 10");
+
+        assertThat(plan).doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void dueDateSortUsesDueDateIndex() {
+        String plan = explain("SELECT * FROM tasks WHERE due_date <= DATE '2024-12-31'"
+                + " ORDER BY due_date, id LIMIT 10");
+
+        assertThat(plan).containsIgnoringCase("IDX_TASKS_DUE_DATE_ID");
+        assertThat(plan).doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void priorityFilterUsesPriorityIndex() {
+        String plan = explain("SELECT * FROM tasks WHERE priority = 'HIGH' ORDER BY id DESC LIMIT 10");
+
+        assertThat(plan).containsIgnoringCase("IDX_TASKS_PRIORITY_ID");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+}
@@ -0,0 +1,126 @@
+package uiowa.ais.interview.task;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import uiowa.ais.interview.exception.PreconditionFailedException;
+import uiowa.ais.interview.projection.ConditionalResponses;
+import uiowa.ais.interview.task.TaskDTO.CreateTaskDTO;
+import uiowa.ais.interview.task.TaskDTO.TaskResponseDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Optimistic locking (@Version) and If-Match on task updates.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:task-optimistic-locking;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class TaskOptimisticLockingTests {
+
+    private static final int WRITERS = 8;
+    private static final int UPDATES_PER_WRITER = 25;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void staleIfMatchIsRejectedWith412() throws Exception {
+        String eTag = mockMvc.perform(get("/api/tasks/{id}", 5))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        String newETag = mockMvc.perform(put("/api/tasks/{id}", 5)
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body("First writer")))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newETag).isNotEqualTo(eTag);
+
+        // A second client still holding the old ETag must not overwrite the first change
+        mockMvc.perform(put("/api/tasks/{id}", 5)
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body("Second writer")))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void parallelWritersLoseNoUpdates() throws Exception {
+        long taskId = 6;
+        String original = taskRepository.findResponsesByIdIn(List.of(taskId)).get(0).getDescription();
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger conflicts = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(WRITERS)) {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int w = 0; w < WRITERS; w++) {
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < UPDATES_PER_WRITER; i++) {
+                        // Read-modify-write: append one character, retrying on conflict
+                        while (true) {
+                            TaskResponseDTO current = taskRepository.findResponsesByIdIn(List.of(taskId)).get(0);
+                            String eTag = ConditionalResponses.eTag("task", taskId,
+                                    current.getVersion(), current.getAssignedUser().getVersion());
+                            CreateTaskDTO update = new CreateTaskDTO(current.getTitle(), current.getDescription() + "x",
+                                    current.getStatus(), current.getPriority(), current.getDueDate(),
+                                    current.getAssignedUser().getId());
+                            try {
+                                taskService.updateTask(taskId, update, eTag);
+                                break;
+                            } catch (PreconditionFailedException | ConcurrencyFailureException ex) {
+                                conflicts.incrementAndGet();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        }
+
+        TaskResponseDTO result = taskRepository.findResponsesByIdIn(List.of(taskId)).get(0);
+        assertThat(result.getDescription()).isEqualTo(original + "x".repeat(WRITERS * UPDATES_PER_WRITER));
+        assertThat(conflicts.get()).as("writers should have collided").isPositive();
+    }
+
+    private static String body(String title) {
+        return """
+                {
+                  "title": "%s",
+                  "description": "Updated by TaskOptimisticLockingTests",
+                  "status": "IN_PROGRESS",
+                  "priority": "LOW",
+                  "dueDate": "2030-01-01",
+                  "assignedUserId": 1
+                }
+                """.formatted(title);
+    }
+}
@@ -0,0 +1,72 @@
+package uiowa.ais.interview.task;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import uiowa.ais.interview.entity.TaskStatus;
+import uiowa.ais.interview.monitoring.SqlStatementTracker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Regression test for the task listing read path.
+ * The number of statements needed to load a page must not grow with the page size:
+ * one SELECT for the tasks with their users; totals come from the in-memory counters.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:task-query-count;DB_CLOSE_DELAY=-1"
+})
+class TaskQueryCountTests {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getAllTasksStatementCountDoesNotDependOnPageSize() {
+        long smallPage = statementsFor(() -> taskService.getAllTasks(null, 0, 2));
+        long largePage = statementsFor(() -> taskService.getAllTasks(null, 0, 12));
+
+        assertEquals(1, smallPage);
+        assertEquals(smallPage, largePage);
+    }
+
+    @Test
+    void getAllTasksByStatusStatementCountDoesNotDependOnPageSize() {
+        String status = TaskStatus.TODO.name();
+        long smallPage = statementsFor(() -> taskService.getAllTasks(status, 0, 1));
+        long largePage = statementsFor(() -> taskService.getAllTasks(status, 0, 4));
+
+        assertEquals(1, smallPage);
+        assertEquals(smallPage, largePage);
+    }
+
+    @Test
+    void getAllTasksDoesNotLoadManagedEntities() {
+        statistics.clear();
+        taskService.getAllTasks(null, 0, 12);
+
+        // The list path projects into DTOs, so neither tasks nor users are hydrated
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    private long statementsFor(Runnable action) {
+        // Counts only this thread, so background work (e.g. index rebuilds) cannot interfere
+        SqlStatementTracker.begin();
+        action.run();
+        return SqlStatementTracker.end().getStatements();
+    }
+}
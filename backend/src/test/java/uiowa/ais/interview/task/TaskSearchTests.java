@@ -0,0 +1,127 @@
+package uiowa.ais.interview.task;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Full-text search: the endpoint, incremental index updates and a full rebuild.
+ * Each test searches for its own words, so they do not depend on order.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:task-search;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class TaskSearchTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void waitForStartupRebuild() throws InterruptedException {
+        // The in-memory index starts empty and is filled in the background
+        awaitRebuild();
+    }
+
+    @Test
+    void searchesTitlesAndDescriptions() throws Exception {
+        // "search" is in the title and description of task 10 only
+        mockMvc.perform(get("/api/tasks/search").param("q", "search"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(10))
+                .andExpect(jsonPath("$.content[0].title").value("Implement search feature"));
+
+        // All words must match
+        mockMvc.perform(get("/api/tasks/search").param("q", "login mobile"))
+                .andExpect(jsonPath("$.content[*].id").value(contains(4)));
+        mockMvc.perform(get("/api/tasks/search").param("q", "login staging"))
+                .andExpect(jsonPath("$.page.totalElements").value(0));
+
+        mockMvc.perform(get("/api/tasks/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void indexesCreatesUpdatesAndDeletesOnCommit() throws Exception {
+        Number id = JsonPath.read(mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body("Zeppelin launch checklist")))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString(), "$.id");
+        expectHits("zeppelin", 1);
+
+        mockMvc.perform(put("/api/tasks/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body("Quasar launch checklist")))
+                .andExpect(status().isOk());
+        expectHits("zeppelin", 0);
+        expectHits("quasar", 1);
+
+        mockMvc.perform(delete("/api/tasks/{id}", id))
+                .andExpect(status().isNoContent());
+        expectHits("quasar", 0);
+    }
+
+    @Test
+    void rebuildIndexesMissingTasksAndDropsStaleOnes() throws Exception {
+        // Changes behind the index's back: a new task and a deleted one
+        jdbcTemplate.update("INSERT INTO tasks (title, description, status, priority, user_id, created_at, updated_at)"
+                + " VALUES ('Nebula survey', 'Written straight to the table', 'TODO', 'LOW', 2,"
+                + " CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        jdbcTemplate.update("DELETE FROM tasks WHERE id = 15");
+        expectHits("nebula", 0);
+        expectHits("audit", 1);
+
+        mockMvc.perform(post("/api/tasks/search/rebuild"))
+                .andExpect(status().isAccepted());
+        awaitRebuild();
+
+        expectHits("nebula", 1);
+        expectHits("audit", 0);
+        // Tasks the rebuild rewrote in place are still found
+        expectHits("landing", 1);
+    }
+
+    private void expectHits(String text, int total) throws Exception {
+        mockMvc.perform(get("/api/tasks/search").param("q", text))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.totalElements").value(total));
+    }
+
+    private void awaitRebuild() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (taskSearchIndex.isRebuilding() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertFalse(taskSearchIndex.isRebuilding(), "search index rebuild did not finish");
+    }
+
+    private static String body(String title) {
+        return """
+                { "title": "%s", "description": "Created through the API", "status": "TODO",
+                  "priority": "LOW", "assignedUserId": 1 }
+                """.formatted(title);
+    }
+}
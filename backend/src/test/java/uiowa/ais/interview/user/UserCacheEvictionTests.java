@@ -0,0 +1,98 @@
+package uiowa.ais.interview.user;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import uiowa.ais.interview.config.CacheConfig;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Cached tasks embed their assignee, so user writes must evict them along with the user.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:user-cache-eviction;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class UserCacheEvictionTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void updatingUserEvictsCachedTasks() throws Exception {
+        // Task 1 belongs to Alice, task 5 to Bob; the whole task cache goes
+        mockMvc.perform(get("/api/users/{id}", 1)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks/{id}", 1)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks/{id}", 5)).andExpect(status().isOk());
+        assertNotNull(tasks().get(1L));
+
+        mockMvc.perform(put("/api/users/{id}", 1)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "name": "Alice Cooper", "email": "alice.johnson@example.com" }
+                                """))
+                .andExpect(status().isOk());
+
+        assertNull(users().get(1L));
+        assertNull(tasks().get(1L));
+        assertNull(tasks().get(5L));
+        mockMvc.perform(get("/api/tasks/{id}", 1))
+                .andExpect(jsonPath("$.assignedUser.name").value("Alice Cooper"));
+    }
+
+    @Test
+    void deletingUserEvictsTheirCachedTasks() throws Exception {
+        String user = mockMvc.perform(post("/api/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{ \"name\": \"Leaving Soon\", \"email\": \"" + UUID.randomUUID() + "@example.com\" }"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long userId = JsonPath.<Number>read(user, "$.id").longValue();
+        String task = mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "title": "Hand over", "description": "Before leaving", "status": "TODO",
+                                  "priority": "LOW", "dueDate": "2030-01-01", "assignedUserId": %d }
+                                """.formatted(userId)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long taskId = JsonPath.<Number>read(task, "$.id").longValue();
+
+        mockMvc.perform(get("/api/users/{id}", userId)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks/{id}", taskId)).andExpect(status().isOk());
+        assertNotNull(tasks().get(taskId));
+
+        mockMvc.perform(delete("/api/users/{id}", userId))
+                .andExpect(status().isNoContent());
+
+        assertNull(users().get(userId));
+        assertNull(tasks().get(taskId));
+        mockMvc.perform(get("/api/tasks/{id}", taskId))
+                .andExpect(status().isNotFound());
+    }
+
+    private Cache tasks() {
+        return cacheManager.getCache(CacheConfig.TASKS);
+    }
+
+    private Cache users() {
+        return cacheManager.getCache(CacheConfig.USERS);
+    }
+}
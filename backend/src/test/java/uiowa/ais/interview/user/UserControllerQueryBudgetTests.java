@@ -0,0 +1,64 @@
+package uiowa.ais.interview.user;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import uiowa.ais.interview.monitoring.QueryBudget;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Query budgets for the UserController endpoints.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:user-controller-budget;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class UserControllerQueryBudgetTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @QueryBudget(1)
+    void listUsers() throws Exception {
+        mockMvc.perform(get("/api/users").param("page", "0").param("size", "10"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(1)
+    void listUsersByName() throws Exception {
+        // Matching and totals come from the name index; only the page is loaded
+        mockMvc.perform(get("/api/users").param("name", "a").param("size", "2"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(0)
+    void typeahead() throws Exception {
+        mockMvc.perform(get("/api/users/typeahead").param("q", "jo"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(1)
+    void getUser() throws Exception {
+        mockMvc.perform(get("/api/users/{id}", 2))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(2)
+    void createUser() throws Exception {
+        mockMvc.perform(post("/api/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "name": "Budget User", "email": "budget.user@example.com" }
+                                """))
+                .andExpect(status().isCreated());
+    }
+}
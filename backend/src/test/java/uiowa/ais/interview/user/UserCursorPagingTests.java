@@ -0,0 +1,94 @@
+package uiowa.ais.interview.user;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Cursor (keyset) paging of GET /api/users?limit=..., end to end.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:user-cursor-paging;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class UserCursorPagingTests {
+
+    private static final int LIMIT = 2;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void pagesFollowEachOtherWithoutOverlap() throws Exception {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            String body = page(cursor);
+            List<Long> ids = ids(body);
+            cursor = JsonPath.read(body, "$.nextCursor");
+
+            // Only the last page may be short, and it has no cursor
+            assertThat(ids).hasSizeLessThanOrEqualTo(LIMIT);
+            if (cursor != null) {
+                assertThat(ids).hasSize(LIMIT);
+            }
+            seen.addAll(ids);
+        } while (cursor != null && seen.size() < 1000);
+
+        // Newest first, each page continuing where the previous one stopped
+        assertEquals(jdbcTemplate.queryForList("SELECT id FROM users ORDER BY id DESC", Long.class), seen);
+    }
+
+    @Test
+    void cursorStillWorksAfterItsRowIsDeleted() throws Exception {
+        String first = page(null);
+        String cursor = JsonPath.read(first, "$.nextCursor");
+        List<Long> firstIds = ids(first);
+        long cursorId = firstIds.get(firstIds.size() - 1);
+
+        mockMvc.perform(delete("/api/users/{id}", cursorId))
+                .andExpect(status().isNoContent());
+
+        // The cursor is an id bound, not a row, so the next page starts just below it
+        List<Long> expected = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE id < ? ORDER BY id DESC LIMIT ?", Long.class, cursorId, LIMIT);
+        assertThat(expected).isNotEmpty();
+        assertEquals(expected, ids(page(cursor)));
+    }
+
+    @Test
+    void malformedCursorIs400() throws Exception {
+        mockMvc.perform(get("/api/users").param("limit", "2").param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String page(String after) throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/users").param("limit", Integer.toString(LIMIT));
+        if (after != null) {
+            request.param("after", after);
+        }
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private static List<Long> ids(String body) {
+        List<Number> ids = JsonPath.read(body, "$.content[*].id");
+        return ids.stream().map(Number::longValue).toList();
+    }
+}
@@ -0,0 +1,105 @@
+package uiowa.ais.interview.user;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import uiowa.ais.interview.counter.EntityCounters;
+import uiowa.ais.interview.exception.ResourceNotFoundException;
+import uiowa.ais.interview.monitoring.SqlStatementTracker;
+import uiowa.ais.interview.user.UserDTO.PurgeProgressDTO;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Set-based user deletion.
+ * Deleting a user must cost the same number of statements however many tasks they own.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-deletion;DB_CLOSE_DELAY=-1",
+        "app.purge.chunk-size=100"
+})
+class UserDeletionTests {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserPurger userPurger;
+
+    @Autowired
+    private EntityCounters entityCounters;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void deleteUserStatementCountDoesNotDependOnTaskCount() {
+        long fewTasksUser = userWithTasks(2);
+        long manyTasksUser = userWithTasks(500);
+
+        long fewTasks = statementsFor(() -> userService.deleteUser(fewTasksUser));
+        long manyTasks = statementsFor(() -> userService.deleteUser(manyTasksUser));
+
+        // One DELETE for the tasks, one for the user
+        assertEquals(2, fewTasks);
+        assertEquals(fewTasks, manyTasks);
+        assertEquals(0, taskCount(manyTasksUser));
+    }
+
+    @Test
+    void deletingUnknownUserIs404() {
+        assertThatThrownBy(() -> userService.deleteUser(999_999L))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void asyncPurgeDeletesInChunksAndReportsProgress() throws Exception {
+        long userId = userWithTasks(250);
+        entityCounters.reconcile();
+
+        PurgeProgressDTO progress = userPurger.start(userId);
+        assertThat(progress.getTotalTasks()).isEqualTo(250);
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (progress.getState() == PurgeProgressDTO.State.RUNNING && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            progress = userPurger.getProgress(userId);
+        }
+
+        assertThat(progress.getState()).isEqualTo(PurgeProgressDTO.State.DONE);
+        assertThat(progress.getDeletedTasks()).isEqualTo(250);
+        assertEquals(0, taskCount(userId));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE id = ?", Long.class, userId));
+        assertEquals(0, entityCounters.getTaskCountForUser(userId));
+    }
+
+    private long userWithTasks(int tasks) {
+        String email = UUID.randomUUID() + "@example.com";
+        jdbcTemplate.update("INSERT INTO users (name, email, created_at, updated_at)"
+                + " VALUES ('Departing User', ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", email);
+        long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, email);
+        jdbcTemplate.update("""
+                INSERT INTO tasks (title, description, status, priority, due_date, user_id, created_at, updated_at)
+                SELECT 'Task ' || X, 'Owned by a departing user', 'TODO', 'LOW', CURRENT_DATE, ?,
+                       CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)
+                """, userId, tasks);
+        return userId;
+    }
+
+    private long taskCount(long userId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE user_id = ?", Long.class, userId);
+    }
+
+    private long statementsFor(Runnable action) {
+        SqlStatementTracker.begin();
+        action.run();
+        return SqlStatementTracker.end().getStatements();
+    }
+}
@@ -0,0 +1,66 @@
+package uiowa.ais.interview.user;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uiowa.ais.interview.user.UserDTO.UserSuggestionDTO;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Matching rules of the in-memory user name index.
+ * Outside a transaction changes apply immediately, so no Spring context is needed.
+ */
+class UserNameIndexTests {
+
+    private UserNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserNameIndex(null);
+        index.userSaved(1L, "John Doe", "john@example.com");
+        index.userSaved(2L, "Jane Smith", "jane@example.com");
+        index.userSaved(3L, "Bob Johnson", "bob@example.com");
+        index.userSaved(4L, "Alice Williams", "alice@example.com");
+    }
+
+    @Test
+    void findsSubstringsCaseInsensitivelyNewestFirst() {
+        assertEquals(List.of(3L, 1L), index.findIdsByName("JOHN"));
+        assertEquals(List.of(4L), index.findIdsByName("liams"));
+        assertTrue(index.findIdsByName("xyz").isEmpty());
+    }
+
+    @Test
+    void shortQueriesUseExactGrams() {
+        assertEquals(List.of(3L, 1L), index.findIdsByName("jo"));
+        assertEquals(List.of(3L, 1L), index.findIdsByName("o"));
+        assertEquals(List.of(4L), index.findIdsByName("l"));
+    }
+
+    @Test
+    void suggestsPrefixMatchesBeforeSubstringMatches() {
+        List<UserSuggestionDTO> suggestions = index.suggest("jo", 10);
+
+        assertEquals(List.of(1L, 3L), suggestions.stream().map(UserSuggestionDTO::getId).toList());
+        assertEquals("John Doe", suggestions.get(0).getName());
+    }
+
+    @Test
+    void suggestsByEmailAndRespectsLimit() {
+        assertEquals(List.of(4L), index.suggest("alice@", 10).stream().map(UserSuggestionDTO::getId).toList());
+        assertEquals(1, index.suggest("example.com", 1).size());
+    }
+
+    @Test
+    void updatesAndDeletesReplaceOldEntries() {
+        index.userSaved(1L, "Jonathan Doe", "jonathan@example.com");
+        index.userDeleted(3L);
+
+        assertEquals(List.of(1L), index.findIdsByName("jonathan"));
+        assertTrue(index.findIdsByName("john").isEmpty());
+        assertTrue(index.suggest("bob", 10).isEmpty());
+    }
+}